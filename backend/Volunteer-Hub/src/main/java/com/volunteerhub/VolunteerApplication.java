@@ -2,8 +2,12 @@ package com.volunteerhub;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync
 public class VolunteerApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(VolunteerApplication.class, args);
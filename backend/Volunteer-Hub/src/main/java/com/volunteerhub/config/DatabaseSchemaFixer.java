@@ -1,5 +1,7 @@
 package com.volunteerhub.config;
 
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.service.EventVolunteerService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,13 +26,95 @@ public class DatabaseSchemaFixer implements CommandLineRunner {
             jdbcTemplate
                     .execute("ALTER TABLE event_volunteers DROP CONSTRAINT IF EXISTS event_volunteers_status_check");
 
-            // Add the new check constraint including 'ATTENDED'
+            // Add the new check constraint including 'ATTENDED' and 'WAITLISTED'
             logger.info("Adding new constraint with ATTENDED status...");
             jdbcTemplate.execute("ALTER TABLE event_volunteers ADD CONSTRAINT event_volunteers_status_check " +
-                    "CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'REMOVED', 'ATTENDED'))");
+                    "CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'REMOVED', 'ATTENDED', 'WAITLISTED'))");
             logger.info("✅ Database Schema Fixed Successfully!");
         } catch (Exception e) {
             logger.error("❌ Failed to fix database schema: " + e.getMessage());
         }
+
+        // Weighted full-text document for event search; generated so every write keeps it in sync
+        applyFix("event search index",
+                "ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+                        + "setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') || "
+                        + "setweight(to_tsvector('english'::regconfig, coalesce(category, '') || ' ' "
+                        + "|| coalesce(skills_required, '')), 'B') || "
+                        + "setweight(to_tsvector('english'::regconfig, coalesce(city, '') || ' ' "
+                        + "|| coalesce(area, '')), 'C') || "
+                        + "setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'D')) STORED",
+                "CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector)");
+
+        // Rows written before end_date_time existed
+        applyFix("event end date/time backfill",
+                "UPDATE events SET end_date_time = COALESCE(end_date + COALESCE(end_time, TIME '23:59:59'), "
+                        + "CASE WHEN end_time >= date_time::time THEN date_time::date + end_time END, date_time) "
+                        + "WHERE end_date_time IS NULL AND date_time IS NOT NULL");
+
+        // Counts drifted while joins were read-modify-write and rejections never released a slot
+        applyFix("volunteer count recount",
+                "UPDATE events e SET current_volunteers = c.held, updated_at = now() FROM ("
+                        + "SELECT e2.id, COUNT(ev.id) AS held FROM events e2 LEFT JOIN event_volunteers ev "
+                        + "ON ev.event_id = e2.id AND ev.status IN ('PENDING', 'APPROVED', 'ATTENDED') GROUP BY e2.id) c "
+                        + "WHERE c.id = e.id AND e.current_volunteers IS DISTINCT FROM c.held");
+
+        // The organizer inbox pages on joined_at, so every registration needs one
+        applyFix("registration joined_at backfill",
+                "UPDATE event_volunteers SET joined_at = COALESCE(approved_at, updated_at, now()) "
+                        + "WHERE joined_at IS NULL");
+
+        // Rows written before registration_state existed; later flips come from the window engine
+        applyFix("registration state backfill",
+                "UPDATE events SET registration_state = " + EventRepository.registrationStateSql("LOCALTIMESTAMP")
+                        + " WHERE registration_state IS NULL");
+
+        // Roll calls upsert on (registration, day); keep the newest of any duplicate rows first
+        applyFix("attendance day uniqueness",
+                "DELETE FROM attendance a USING attendance b WHERE a.event_volunteer_id = b.event_volunteer_id "
+                        + "AND a.date = b.date AND a.id < b.id",
+                "CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_event_volunteer_date ON attendance (event_volunteer_id, date)");
+
+        // Rows written before offline sync existed count as decided at the start of their day
+        applyFix("attendance updated_at backfill",
+                "UPDATE attendance SET updated_at = date::timestamp WHERE updated_at IS NULL");
+
+        // Registrations inserted by the batched JDBC paths start at zero too
+        applyFix("attendance counters backfill",
+                "ALTER TABLE event_volunteers ALTER COLUMN present_days SET DEFAULT 0",
+                "ALTER TABLE event_volunteers ALTER COLUMN total_days SET DEFAULT 0",
+                "UPDATE event_volunteers ev SET present_days = c.present, total_days = c.total FROM ("
+                        + "SELECT ev2.id, COUNT(a.id) AS total, COUNT(a.id) FILTER (WHERE a.status = 'PRESENT') AS present "
+                        + "FROM event_volunteers ev2 LEFT JOIN attendance a ON a.event_volunteer_id = ev2.id "
+                        + "WHERE ev2.present_days IS NULL OR ev2.total_days IS NULL GROUP BY ev2.id) c WHERE ev.id = c.id");
+
+        // Journal keys were global per device; device ids are client-chosen, so scope them to the organizer
+        applyFix("attendance journal organizer scope",
+                "UPDATE attendance_journal j SET organizer_id = e.organizer_id FROM event_volunteers ev "
+                        + "JOIN events e ON e.id = ev.event_id WHERE ev.id = j.event_volunteer_id AND j.organizer_id IS NULL",
+                "ALTER TABLE attendance_journal ALTER COLUMN organizer_id SET NOT NULL",
+                "DROP INDEX IF EXISTS uk_attendance_journal_device_sequence",
+                "CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_journal_organizer_device_sequence "
+                        + "ON attendance_journal (organizer_id, device_id, sequence)");
+
+        // Days attended before the ledger existed were already credited; record them so they are not paid twice
+        applyFix("points ledger backfill",
+                "INSERT INTO points_ledger (user_id, event_volunteer_id, event_id, date, reason, points, created_at) "
+                        + "SELECT ev.volunteer_id, ev.id, ev.event_id, a.date, 'ATTENDANCE', "
+                        + EventVolunteerService.POINTS_PER_ATTENDED_DAY + ", now() FROM attendance a "
+                        + "JOIN event_volunteers ev ON ev.id = a.event_volunteer_id WHERE a.status = 'PRESENT' "
+                        + "AND NOT EXISTS (SELECT 1 FROM points_ledger) "
+                        + "ON CONFLICT (event_volunteer_id, date, reason) DO NOTHING");
+    }
+
+    private void applyFix(String name, String... statements) {
+        try {
+            logger.info("Applying schema fix: {}", name);
+            for (String statement : statements) {
+                jdbcTemplate.execute(statement);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Failed to apply schema fix '" + name + "': " + e.getMessage());
+        }
     }
 }
@@ -0,0 +1,134 @@
+package com.volunteerhub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerhub.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Honours an Idempotency-Key header on mutating volunteer and event endpoints:
+ * the first request runs and its response is stored, retries with the same key
+ * get that response back without running the handler again.
+ * <p>
+ * Ordered after the security filter chain, whose CorsFilter has already written
+ * the CORS headers by the time a replay or key error is sent from here.
+ */
+@Component
+@Order(SecurityFilterProperties.DEFAULT_FILTER_ORDER + 1)
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return request.getHeader(HEADER) == null
+                || !METHODS.contains(request.getMethod())
+                || !(path.startsWith("/api/volunteers/") || path.startsWith("/api/events"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientKey = request.getHeader(HEADER).trim();
+        if (clientKey.isEmpty() || clientKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        // Keys are scoped to the endpoint; the fingerprint catches a key reused with other parameters.
+        // Bodies are not hashed, so a retry must resend the same payload.
+        String key = sha256(request.getMethod() + " " + request.getRequestURI() + " " + clientKey);
+        StringBuilder parameters = new StringBuilder(request.getMethod()).append(' ').append(request.getRequestURI());
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                parameters.append('&').append(name).append('=').append(String.join(",", values)));
+        String fingerprint = sha256(parameters.toString());
+
+        IdempotencyService.Claim claim = idempotencyService.begin(key, fingerprint);
+        switch (claim.outcome()) {
+            case REPLAY -> replay(response, claim.response());
+            case IN_PROGRESS -> writeError(response, HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed");
+            case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_CONTENT,
+                    "Idempotency-Key was already used with different request parameters");
+            case PROCEED -> proceed(request, response, chain, key, fingerprint);
+        }
+    }
+
+    private void proceed(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+            String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, wrapper);
+            // Only successes are final; a rejected request may well pass once the client fixes it
+            if (wrapper.getStatus() >= 200 && wrapper.getStatus() < 300) {
+                idempotencyService.complete(key, fingerprint, new IdempotencyService.StoredResponse(
+                        wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyService.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    // Same shape as GlobalExceptionHandler so clients parse one error format
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, String> error = new HashMap<>();
+        error.put("message", message);
+        error.put("error", "IdempotencyKeyError");
+        error.put("status", String.valueOf(status.value()));
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(error));
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
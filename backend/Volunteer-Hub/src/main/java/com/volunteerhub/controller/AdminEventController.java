@@ -1,5 +1,8 @@
 package com.volunteerhub.controller;
 
+import com.volunteerhub.dto.CacheStatsDTO;
+import com.volunteerhub.dto.EventCompletionStatsDTO;
+import com.volunteerhub.dto.EventSummaryDTO;
 import com.volunteerhub.model.Event;
 import com.volunteerhub.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,17 +16,18 @@ import java.util.List;
 public class AdminEventController {
     private final EventRepository eventRepository;
     private final com.volunteerhub.service.EventService eventService;
+    private final com.volunteerhub.service.EventCacheService eventCacheService;
 
     // 🔥 PENDING EVENTS
     @GetMapping("/pending")
-    public List<Event> getPendingEvents() {
-        return eventRepository.findByStatusWithOrganizer(Event.EventStatus.PENDING_APPROVAL);
+    public List<EventSummaryDTO> getPendingEvents() {
+        return eventRepository.findSummariesByStatus(Event.EventStatus.PENDING_APPROVAL);
     }
 
     // 📋 ALL EVENTS (For Admin View)
     @GetMapping
-    public List<Event> getAllEvents() {
-        return eventRepository.findAllWithOrganizer();
+    public List<EventSummaryDTO> getAllEvents() {
+        return eventRepository.findAllSummaries();
     }
 
     // ✅ APPROVE EVENT
@@ -38,11 +42,21 @@ public class AdminEventController {
         return eventService.rejectEvent(id);
     }
 
+    // 📊 EVENT DETAILS CACHE METRICS
+    @GetMapping("/cache/stats")
+    public CacheStatsDTO getCacheStats() {
+        return eventCacheService.getStats();
+    }
+
+    // 🏁 AUTO-COMPLETION JOB METRICS
+    @GetMapping("/auto-complete/stats")
+    public EventCompletionStatsDTO getCompletionStats() {
+        return eventService.getCompletionStats();
+    }
+
     // 🗑️ DELETE EVENT
     @DeleteMapping("/{id}")
     public void deleteEvent(@PathVariable Long id) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-        eventRepository.delete(event);
+        eventService.deleteEventAsAdmin(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.volunteerhub.controller;
+
+import com.volunteerhub.dto.AttendanceSyncRequest;
+import com.volunteerhub.dto.AttendanceSyncResultDTO;
+import com.volunteerhub.service.EventVolunteerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+@CrossOrigin
+public class AttendanceController {
+
+    private final EventVolunteerService eventVolunteerService;
+
+    // Scanner uploads the check-ins and check-outs it journaled while offline; safe to retry
+    @PostMapping("/sync")
+    public ResponseEntity<AttendanceSyncResultDTO> sync(@RequestBody AttendanceSyncRequest request) {
+        return ResponseEntity.ok(eventVolunteerService.syncAttendanceJournal(request));
+    }
+}
@@ -0,0 +1,33 @@
+package com.volunteerhub.controller;
+
+import com.volunteerhub.dto.CertificateJobDTO;
+import com.volunteerhub.service.CertificateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/certificates")
+@RequiredArgsConstructor
+@CrossOrigin
+public class CertificateController {
+
+    private final CertificateService certificateService;
+
+    // Organizer generates certificates for all eligible volunteers of an event
+    @PostMapping("/events/{eventId}")
+    public ResponseEntity<CertificateJobDTO> generateForEvent(
+            @PathVariable Long eventId,
+            @RequestParam Long organizerId,
+            @RequestParam(defaultValue = "false") boolean reissue) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(certificateService.startBatch(eventId, organizerId, reissue));
+    }
+
+    // Progress of a generation job
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<CertificateJobDTO> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(certificateService.getJob(jobId));
+    }
+}
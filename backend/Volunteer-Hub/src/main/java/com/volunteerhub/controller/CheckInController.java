@@ -0,0 +1,32 @@
+package com.volunteerhub.controller;
+
+import com.volunteerhub.dto.CheckInScanRequest;
+import com.volunteerhub.dto.CheckInScanResultDTO;
+import com.volunteerhub.dto.CheckInTokenDTO;
+import com.volunteerhub.service.CheckInService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/checkin")
+@RequiredArgsConstructor
+@CrossOrigin
+public class CheckInController {
+
+    private final CheckInService checkInService;
+
+    // Volunteer fetches the QR pass for an approved registration
+    @GetMapping("/token/{registrationId}")
+    public ResponseEntity<CheckInTokenDTO> getToken(
+            @PathVariable Long registrationId,
+            @RequestParam Long volunteerId) {
+        return ResponseEntity.ok(checkInService.issueToken(registrationId, volunteerId));
+    }
+
+    // Organizer's scanner submits a pass at the gate
+    @PostMapping("/scan")
+    public ResponseEntity<CheckInScanResultDTO> scan(@RequestBody CheckInScanRequest request) {
+        return ResponseEntity.ok(checkInService.scan(request));
+    }
+}
@@ -1,12 +1,30 @@
 package com.volunteerhub.controller;
 
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.EventDetailsDTO;
+import com.volunteerhub.dto.EventFacetsDTO;
+import com.volunteerhub.dto.EventImportResultDTO;
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.dto.PageResultDTO;
+import com.volunteerhub.dto.RollCallResultDTO;
+import com.volunteerhub.dto.VersionStamp;
 import com.volunteerhub.model.Event;
 import com.volunteerhub.model.EventVolunteer;
+import com.volunteerhub.service.EventFacetService;
+import com.volunteerhub.service.EventImportService;
 import com.volunteerhub.service.EventService;
+import com.volunteerhub.service.EventTimelineService;
+import com.volunteerhub.service.EventVolunteerService;
+import com.volunteerhub.service.RecommendationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -20,6 +38,11 @@ import java.util.Map;
 public class EventController {
 
     private final EventService eventService;
+    private final EventFacetService eventFacetService;
+    private final EventTimelineService eventTimelineService;
+    private final EventImportService eventImportService;
+    private final RecommendationService recommendationService;
+    private final EventVolunteerService eventVolunteerService;
 
     @PostMapping
     public ResponseEntity<?> createEvent(
@@ -116,6 +139,25 @@ public class EventController {
         }
     }
 
+    // CSV (header row) or JSON array, same field names as createEvent; format defaults from the file name
+    @PostMapping("/bulk-import")
+    public ResponseEntity<EventImportResultDTO> bulkImportEvents(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam Long userId,
+            @RequestParam(required = false) EventImportService.Format format) throws IOException {
+        if (file.isEmpty()) {
+            throw new RuntimeException("Import file is empty");
+        }
+        EventImportService.Format resolved = format;
+        if (resolved == null) {
+            String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+            resolved = name.endsWith(".json") ? EventImportService.Format.JSON : EventImportService.Format.CSV;
+        }
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(eventImportService.importEvents(input, resolved, userId));
+        }
+    }
+
     private Integer parseInteger(Object obj) {
         if (obj == null)
             return null;
@@ -141,18 +183,74 @@ public class EventController {
     }
 
     @GetMapping("/myevents")
-    public ResponseEntity<List<Event>> getMyEvents(@RequestParam Long userId) {
-        return ResponseEntity.ok(eventService.getEventsByOrganizer(userId));
+    public ResponseEntity<List<EventSummaryDTO>> getMyEvents(@RequestParam Long userId, WebRequest request) {
+        VersionStamp version = eventService.getOrganizerEventsVersion(userId);
+        if (request.checkNotModified(version.toETag("myevents"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(eventService.getEventSummariesByOrganizer(userId));
     }
 
     @GetMapping("/published")
-    public ResponseEntity<List<Event>> getPublishedEvents() {
-        return ResponseEntity.ok(eventService.getPublishedEvents());
+    public ResponseEntity<List<EventSummaryDTO>> getPublishedEvents(WebRequest request) {
+        VersionStamp version = eventService.getPublishedEventsVersion();
+        if (request.checkNotModified(version.toETag("published"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(eventService.getPublishedEventSummaries());
     }
 
     @GetMapping("/available")
-    public ResponseEntity<List<Event>> getAvailableEvents() {
-        return ResponseEntity.ok(eventService.getPublishedEvents());
+    public ResponseEntity<List<EventSummaryDTO>> getAvailableEvents(WebRequest request) {
+        VersionStamp version = eventService.getPublishedEventsVersion();
+        if (request.checkNotModified(version.toETag("published"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(eventService.getPublishedEventSummaries());
+    }
+
+    // Cursor-paginated catalog; /published and /available remain for older clients
+    @GetMapping("/catalog")
+    public ResponseEntity<CursorPageDTO<EventSummaryDTO>> getEventCatalog(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(eventService.getPublishedCatalog(cursor, size, category, city, from, to));
+    }
+
+    // Served entirely from the in-memory facet counts
+    @GetMapping("/facets")
+    public ResponseEntity<EventFacetsDTO> getEventFacets(
+            @RequestParam(required = false) Event.EventStatus status) {
+        return ResponseEntity.ok(eventFacetService.getFacets(status));
+    }
+
+    // Overlap query over the in-memory interval index, e.g. "happening now" is from=to=now
+    @GetMapping("/timeline")
+    public ResponseEntity<CursorPageDTO<EventSummaryDTO>> getEventTimeline(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Event.EventStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(eventTimelineService.getTimeline(from, to, status, cursor, size));
+    }
+
+    // Precomputed per-volunteer top-K, refreshed in the background
+    @GetMapping("/recommended")
+    public ResponseEntity<List<EventSummaryDTO>> getRecommendedEvents(@RequestParam Long volunteerId) {
+        return ResponseEntity.ok(recommendationService.getRecommendations(volunteerId));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResultDTO<EventSummaryDTO>> searchEvents(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(eventService.searchEvents(query, page, size));
     }
 
     @PutMapping("/{id}")
@@ -197,16 +295,31 @@ public class EventController {
     }
 
     @GetMapping("/details/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
-        System.out.println("📡 FETCHING EVENT DETAILS: " + id);
-        Event event = eventService.getEventById(id);
-        if (event != null)
-            event.populateTransientFields();
-        return ResponseEntity.ok(event);
+    public ResponseEntity<EventDetailsDTO> getEventById(@PathVariable Long id, WebRequest request) {
+        VersionStamp version = eventService.getEventVersion(id);
+        if (version.getCount() > 0
+                && request.checkNotModified(version.toETag("event-" + id), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(eventService.getEventDetails(id));
     }
 
     @GetMapping("/{id}/volunteers")
-    public ResponseEntity<List<EventVolunteer>> getEventVolunteers(@PathVariable Long id) {
+    public ResponseEntity<List<EventVolunteer>> getEventVolunteers(@PathVariable Long id, WebRequest request) {
+        VersionStamp version = eventService.getEventVolunteersVersion(id);
+        if (request.checkNotModified(version.toETag("roster-" + id), version.lastModifiedMillis())) {
+            return null;
+        }
         return ResponseEntity.ok(eventService.getEventVolunteers(id));
     }
-}
\ No newline at end of file
+
+    // Organizer submits the whole roster for one day: { registrationId: present }
+    @PutMapping("/{id}/attendance/{date}")
+    public ResponseEntity<RollCallResultDTO> recordRollCall(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam Long userId,
+            @RequestBody Map<Long, Boolean> roster) {
+        return ResponseEntity.ok(eventVolunteerService.recordRollCall(id, userId, date, roster));
+    }
+}
@@ -0,0 +1,26 @@
+package com.volunteerhub.controller;
+
+import com.volunteerhub.dto.LeaderboardDTO;
+import com.volunteerhub.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@CrossOrigin
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // Global by default; city or category ranks points earned at events there
+    @GetMapping
+    public ResponseEntity<LeaderboardDTO> getLeaderboard(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(city, category, limit, userId));
+    }
+}
@@ -1,12 +1,21 @@
 package com.volunteerhub.controller;
 
+import com.volunteerhub.dto.AdmissionTicketDTO;
+import com.volunteerhub.dto.BulkDecisionRequest;
+import com.volunteerhub.dto.BulkDecisionResultDTO;
+import com.volunteerhub.dto.CursorPageDTO;
 import com.volunteerhub.dto.EventFeedbackDTO;
+import com.volunteerhub.dto.ScheduleConflictDTO;
+import com.volunteerhub.dto.VersionStamp;
+import com.volunteerhub.dto.VolunteerHistoryDTO;
+import com.volunteerhub.dto.VolunteerRequestDTO;
 import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.Feedback;
 import com.volunteerhub.service.EventVolunteerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -21,6 +30,8 @@ import java.util.Map;
 @CrossOrigin
 public class VolunteerController {
     private final EventVolunteerService eventVolunteerService;
+    private final com.volunteerhub.service.AdmissionService admissionService;
+    private final com.volunteerhub.service.ScheduleConflictService scheduleConflictService;
     private final com.volunteerhub.service.FileStorageService fileStorageService;
 
     // Volunteer joins event
@@ -29,12 +40,67 @@ public class VolunteerController {
         return ResponseEntity.ok(eventVolunteerService.joinEvent(eventId, volunteerId));
     }
 
+    // Queued join for high-demand events: answers immediately with a ticket to poll
+    @PostMapping("/join/{eventId}/queue")
+    public ResponseEntity<AdmissionTicketDTO> queueJoin(@PathVariable Long eventId, @RequestParam Long volunteerId) {
+        return ResponseEntity.accepted().body(admissionService.enqueue(eventId, volunteerId));
+    }
+
+    @GetMapping("/queue/{ticketId}")
+    public ResponseEntity<AdmissionTicketDTO> getQueueTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(admissionService.getTicket(ticketId));
+    }
+
+    // Lets the UI warn before joining: the volunteer's registrations overlapping the event
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<ScheduleConflictDTO>> getConflicts(@RequestParam Long volunteerId,
+            @RequestParam Long eventId) {
+        return ResponseEntity.ok(scheduleConflictService.findConflictsForEvent(volunteerId, eventId));
+    }
+
+    // Place in the waitlist for a WAITLISTED registration (0 otherwise)
+    @GetMapping("/{id}/waitlist-position")
+    public ResponseEntity<Map<String, Long>> getWaitlistPosition(@PathVariable Long id, @RequestParam Long volunteerId) {
+        return ResponseEntity.ok(Map.of("position", eventVolunteerService.getWaitlistPosition(id, volunteerId)));
+    }
+
     // Get volunteer history
     @GetMapping("/history")
-    public ResponseEntity<List<EventVolunteer>> getVolunteerHistory(@RequestParam Long volunteerId) {
+    public ResponseEntity<List<EventVolunteer>> getVolunteerHistory(@RequestParam Long volunteerId,
+            WebRequest request) {
+        VersionStamp version = eventVolunteerService.getVolunteerHistoryVersion(volunteerId);
+        if (request.checkNotModified(version.toETag("history-" + volunteerId), version.lastModifiedMillis())) {
+            return null;
+        }
         return ResponseEntity.ok(eventVolunteerService.getVolunteerHistory(volunteerId));
     }
 
+    // Paged history for long-time volunteers; same version as the full history
+    @GetMapping("/history/page")
+    public ResponseEntity<CursorPageDTO<VolunteerHistoryDTO>> getVolunteerHistoryPage(@RequestParam Long volunteerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        VersionStamp version = eventVolunteerService.getVolunteerHistoryVersion(volunteerId);
+        String scope = "history-" + volunteerId + "-" + (cursor != null ? cursor : "") + "-" + (size != null ? size : "");
+        if (request.checkNotModified(version.toETag(scope), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(eventVolunteerService.getVolunteerHistoryPage(volunteerId, cursor, size));
+    }
+
+    // Organizer inbox across all of their events (PENDING unless another status is given)
+    @GetMapping("/requests")
+    public ResponseEntity<CursorPageDTO<VolunteerRequestDTO>> getOrganizerVolunteerRequests(
+            @RequestParam Long organizerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "false") boolean newestFirst) {
+        return ResponseEntity.ok(eventVolunteerService.getOrganizerVolunteerRequests(organizerId, status, cursor,
+                size, newestFirst));
+    }
+
     // Organizer approves volunteer
     @PatchMapping("/{id}/approve")
     public ResponseEntity<EventVolunteer> approveVolunteer(
@@ -62,6 +128,12 @@ public class VolunteerController {
         return ResponseEntity.ok(eventVolunteerService.markAttendance(id, organizerId, date, attended));
     }
 
+    // Organizer approves or rejects many applicants in one call
+    @PostMapping("/bulk-decision")
+    public ResponseEntity<BulkDecisionResultDTO> bulkDecision(@RequestBody BulkDecisionRequest request) {
+        return ResponseEntity.ok(eventVolunteerService.bulkDecision(request));
+    }
+
     // Organizer removes volunteer
     @PatchMapping("/{id}/remove")
     public ResponseEntity<Void> removeVolunteer(
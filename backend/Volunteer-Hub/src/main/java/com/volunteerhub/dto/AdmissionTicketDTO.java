@@ -0,0 +1,31 @@
+package com.volunteerhub.dto;
+
+import com.volunteerhub.model.EventVolunteer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Client view of a queued join request. {@code position} counts down while
+ * QUEUED; once ADMITTED the registration fields are filled in.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionTicketDTO {
+
+    public enum State {
+        QUEUED, ADMITTED, FAILED
+    }
+
+    private String ticketId;
+    private Long eventId;
+    private Long volunteerId;
+    private State state;
+    private long position;
+    private Long registrationId;
+    private EventVolunteer.VolunteerStatus registrationStatus;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.volunteerhub.dto;
+
+import com.volunteerhub.model.AttendanceJournalEntry;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class AttendanceSyncRequest {
+    private Long organizerId;
+    private String deviceId;
+    private List<Entry> entries;
+
+    @Data
+    public static class Entry {
+        private Long registrationId;
+        // Per-device counter; re-sending an entry with the same sequence is a no-op
+        private Long sequence;
+        private AttendanceJournalEntry.EntryType type;
+        private LocalDateTime occurredAt;
+    }
+}
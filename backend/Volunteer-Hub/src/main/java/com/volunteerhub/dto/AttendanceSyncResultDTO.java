@@ -0,0 +1,34 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSyncResultDTO {
+    private String deviceId;
+    private int received;
+    // Entries journaled for the first time by this upload
+    private int applied;
+    // Entries this device had already uploaded
+    private int duplicates;
+    // Volunteer days that flipped to PRESENT; a later server-side mark wins over an older device entry
+    private int newlyPresent;
+    private int pointsAwarded;
+    private long elapsedMs;
+    private List<Rejected> rejected;
+
+    @Data
+    @AllArgsConstructor
+    public static class Rejected {
+        private Long sequence;
+        private Long registrationId;
+        private String message;
+    }
+}
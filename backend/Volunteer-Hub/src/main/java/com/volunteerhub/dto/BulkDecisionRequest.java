@@ -0,0 +1,18 @@
+package com.volunteerhub.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkDecisionRequest {
+    private Long organizerId;
+    private Decision decision;
+    private List<Long> registrationIds;
+    private String reason;
+
+    public enum Decision {
+        APPROVE,
+        REJECT
+    }
+}
@@ -0,0 +1,30 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionResultDTO {
+    private BulkDecisionRequest.Decision decision;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private long elapsedMs;
+    private List<Item> results;
+
+    @Data
+    @AllArgsConstructor
+    public static class Item {
+        private Long registrationId;
+        private boolean success;
+        private String status;
+        private String message;
+    }
+}
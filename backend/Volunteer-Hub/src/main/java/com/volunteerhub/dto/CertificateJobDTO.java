@@ -0,0 +1,30 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateJobDTO {
+    private String jobId;
+    private Long eventId;
+    // QUEUED, RUNNING, COMPLETED or FAILED
+    private String status;
+    // Eligible registrations picked up by the job
+    private int total;
+    private int issued;
+    // Already held a certificate and reissue was not requested
+    private int skipped;
+    private int failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMs;
+    private List<String> errors;
+}
@@ -0,0 +1,11 @@
+package com.volunteerhub.dto;
+
+import lombok.Data;
+
+@Data
+public class CheckInScanRequest {
+    private String token;
+    private Long organizerId;
+    // Scanner identifier, only used in logs
+    private String deviceId;
+}
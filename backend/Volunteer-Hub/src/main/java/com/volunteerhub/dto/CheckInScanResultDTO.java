@@ -0,0 +1,26 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInScanResultDTO {
+
+    public enum Status {
+        CHECKED_IN, ALREADY_CHECKED_IN
+    }
+
+    private Status status;
+    private Long eventId;
+    private Long registrationId;
+    private Long volunteerId;
+    private String volunteerName;
+    private LocalDate date;
+}
@@ -0,0 +1,23 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Signed gate pass for one registration; {@code token} is what the QR code encodes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInTokenDTO {
+    private String token;
+    private Long eventId;
+    private Long registrationId;
+    private LocalDateTime validFrom;
+    private LocalDateTime validUntil;
+}
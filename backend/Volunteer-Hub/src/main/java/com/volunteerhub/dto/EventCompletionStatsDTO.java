@@ -0,0 +1,25 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCompletionStatsDTO {
+    // Runs this node performed as the lease holder
+    private long runs;
+    private long failures;
+    private long totalCompleted;
+    private long totalNotifications;
+    private LocalDateTime lastRunAt;
+    private long lastDurationMs;
+    private int lastCompleted;
+    private int lastPages;
+    private String lastError;
+}
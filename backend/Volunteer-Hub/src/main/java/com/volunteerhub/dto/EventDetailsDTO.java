@@ -0,0 +1,118 @@
+package com.volunteerhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.User;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Immutable snapshot of an event for the details page. Safe to share across
+ * requests from the event cache because it holds no Hibernate state.
+ */
+@Value
+@Builder
+public class EventDetailsDTO {
+
+    Long id;
+    String title;
+    String category;
+    String description;
+    LocalDateTime dateTime;
+    LocalDate startDate;
+    LocalDate endDate;
+
+    @JsonFormat(pattern = "HH:mm")
+    LocalTime startTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    LocalTime endTime;
+
+    String locationName;
+    String address;
+    String city;
+    String area;
+    String mapLink;
+    LocalDateTime registrationOpenDateTime;
+    LocalDateTime registrationCloseDateTime;
+    LocalDate registrationOpenDate;
+    LocalTime registrationOpenTime;
+    LocalDate registrationCloseDate;
+    LocalTime registrationCloseTime;
+    Integer requiredVolunteers;
+    Integer currentVolunteers;
+    String skillsRequired;
+    Integer minAge;
+    String genderPreference;
+    Event.EventStatus status;
+    String cancellationReason;
+    OrganizerDetails organizer;
+
+    public static EventDetailsDTO from(Event event) {
+        event.populateTransientFields();
+        User organizer = event.getOrganizer();
+        return EventDetailsDTO.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .category(event.getCategory())
+                .description(event.getDescription())
+                .dateTime(event.getDateTime())
+                .startDate(event.getStartDate())
+                .endDate(event.getEndDate())
+                .startTime(event.getStartTime())
+                .endTime(event.getEndTime())
+                .locationName(event.getLocationName())
+                .address(event.getAddress())
+                .city(event.getCity())
+                .area(event.getArea())
+                .mapLink(event.getMapLink())
+                .registrationOpenDateTime(event.getRegistrationOpenDateTime())
+                .registrationCloseDateTime(event.getRegistrationCloseDateTime())
+                .registrationOpenDate(event.getRegistrationOpenDate())
+                .registrationOpenTime(event.getRegistrationOpenTime())
+                .registrationCloseDate(event.getRegistrationCloseDate())
+                .registrationCloseTime(event.getRegistrationCloseTime())
+                .requiredVolunteers(event.getRequiredVolunteers())
+                .currentVolunteers(event.getCurrentVolunteers())
+                .skillsRequired(event.getSkillsRequired())
+                .minAge(event.getMinAge())
+                .genderPreference(event.getGenderPreference())
+                .status(event.getStatus())
+                .cancellationReason(event.getCancellationReason())
+                .organizer(organizer == null ? null
+                        : new OrganizerDetails(organizer.getId(), organizer.getName(), organizer.getEmail(),
+                                organizer.getNumber(), organizer.getVmsId()))
+                .build();
+    }
+
+    /**
+     * Rough retained size in bytes, used by the cache to bound memory.
+     */
+    public long estimatedSize() {
+        long size = 512;
+        for (String value : new String[] { title, category, description, locationName, address, city, area,
+                mapLink, skillsRequired, genderPreference, cancellationReason }) {
+            if (value != null) {
+                size += 40 + 2L * value.length();
+            }
+        }
+        if (organizer != null) {
+            size += 128 + 2L * ((organizer.getName() != null ? organizer.getName().length() : 0)
+                    + (organizer.getEmail() != null ? organizer.getEmail().length() : 0));
+        }
+        return size;
+    }
+
+    @Value
+    public static class OrganizerDetails {
+        Long id;
+        String name;
+        String email;
+        Long number;
+        String vmsId;
+    }
+}
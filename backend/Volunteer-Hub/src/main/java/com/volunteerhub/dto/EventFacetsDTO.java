@@ -0,0 +1,19 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventFacetsDTO {
+    private String status;
+    private Map<String, Long> statusCounts;
+    private Map<String, Long> category;
+    private Map<String, Long> city;
+    private Map<String, Long> area;
+    private Map<String, Long> dateBucket;
+}
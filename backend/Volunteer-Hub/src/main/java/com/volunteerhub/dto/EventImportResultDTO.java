@@ -0,0 +1,29 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventImportResultDTO {
+    private int totalRows;
+    private int importedCount;
+    private int failedCount;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+    private long elapsedMs;
+    private double rowsPerSecond;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String message;
+    }
+}
@@ -0,0 +1,82 @@
+package com.volunteerhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.volunteerhub.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Card-sized view of an event. Built directly by JPQL constructor expressions
+ * so list queries never materialize full {@link Event} entities.
+ */
+@Data
+@NoArgsConstructor
+public class EventSummaryDTO {
+
+    private Long id;
+    private String title;
+    private String category;
+    private String description;
+    private Event.EventStatus status;
+    private LocalDateTime dateTime;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime endDateTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    private String locationName;
+    private String city;
+    private String area;
+    private Integer requiredVolunteers;
+    private Integer currentVolunteers;
+    private LocalDateTime registrationOpenDateTime;
+    private LocalDateTime registrationCloseDateTime;
+    private Event.RegistrationState registrationState;
+    private OrganizerSummary organizer;
+
+    public EventSummaryDTO(Long id, String title, String category, String description, Event.EventStatus status,
+            LocalDateTime dateTime, LocalDate endDate, LocalDateTime endDateTime, LocalTime startTime, LocalTime endTime,
+            String locationName, String city, String area, Integer requiredVolunteers, Integer currentVolunteers,
+            LocalDateTime registrationOpenDateTime, LocalDateTime registrationCloseDateTime,
+            Event.RegistrationState registrationState,
+            Long organizerId, String organizerName) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.description = description;
+        this.status = status;
+        this.dateTime = dateTime;
+        this.startDate = dateTime != null ? dateTime.toLocalDate() : null;
+        this.endDate = endDate;
+        this.endDateTime = endDateTime;
+        this.startTime = startTime != null ? startTime : (dateTime != null ? dateTime.toLocalTime() : null);
+        this.endTime = endTime;
+        this.locationName = locationName;
+        this.city = city;
+        this.area = area;
+        this.requiredVolunteers = requiredVolunteers;
+        this.currentVolunteers = currentVolunteers;
+        this.registrationOpenDateTime = registrationOpenDateTime;
+        this.registrationCloseDateTime = registrationCloseDateTime;
+        this.registrationState = registrationState;
+        this.organizer = new OrganizerSummary(organizerId, organizerName);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrganizerSummary {
+        private Long id;
+        private String name;
+    }
+}
@@ -0,0 +1,32 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardDTO {
+    // GLOBAL, CITY or CATEGORY
+    private String scope;
+    private String value;
+    private int participants;
+    private List<Entry> entries;
+    // The requesting volunteer's standing, when asked for
+    private Entry me;
+
+    @Data
+    @AllArgsConstructor
+    public static class Entry {
+        // Competition rank: equal points share a rank
+        private int rank;
+        private Long userId;
+        private String name;
+        private long points;
+    }
+}
@@ -0,0 +1,17 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResultDTO<T> {
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,33 @@
+package com.volunteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollCallResultDTO {
+    private Long eventId;
+    private LocalDate date;
+    private int requested;
+    private int present;
+    private int absent;
+    // Registrations whose row was created or flipped by this call
+    private int changed;
+    private int pointsAwarded;
+    private long elapsedMs;
+    private List<Skipped> skipped;
+
+    @Data
+    @AllArgsConstructor
+    public static class Skipped {
+        private Long registrationId;
+        private String message;
+    }
+}
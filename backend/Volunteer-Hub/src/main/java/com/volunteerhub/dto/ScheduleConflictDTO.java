@@ -0,0 +1,25 @@
+package com.volunteerhub.dto;
+
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A registration whose event overlaps the time range being checked.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleConflictDTO {
+    private Long registrationId;
+    private EventVolunteer.VolunteerStatus registrationStatus;
+    private Long eventId;
+    private String eventTitle;
+    private Event.EventStatus eventStatus;
+    private LocalDateTime start;
+    private LocalDateTime end;
+}
@@ -0,0 +1,37 @@
+package com.volunteerhub.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cheap fingerprint of a resource (row count + newest updatedAt) used to answer
+ * conditional GETs without loading the resource itself.
+ */
+@Getter
+public class VersionStamp {
+
+    private final long count;
+    private final LocalDateTime lastModified;
+
+    public VersionStamp(Long count, LocalDateTime lastModified) {
+        this.count = count != null ? count : 0L;
+        this.lastModified = lastModified;
+    }
+
+    public VersionStamp(Long count, LocalDateTime lastModified, LocalDateTime relatedLastModified) {
+        this(count, relatedLastModified == null || (lastModified != null && lastModified.isAfter(relatedLastModified))
+                ? lastModified
+                : relatedLastModified);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    public String toETag(String scope) {
+        long nanos = lastModified != null ? lastModified.getNano() : 0;
+        return "\"" + scope + "-" + count + "-" + lastModifiedMillis() + "-" + nanos + "\"";
+    }
+}
@@ -0,0 +1,80 @@
+package com.volunteerhub.dto;
+
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One registration in a volunteer's history with the event card it belongs
+ * to. Built by a JPQL constructor expression; feedback is attached afterwards
+ * from a single batched query.
+ */
+@Data
+@NoArgsConstructor
+public class VolunteerHistoryDTO {
+
+    private Long id;
+    private EventVolunteer.VolunteerStatus status;
+    private LocalDateTime joinedAt;
+    private LocalDateTime approvedAt;
+    private String rejectionReason;
+    private String certificateUrl;
+    private LocalDateTime certificateIssuedAt;
+    private Integer presentDays;
+    private Integer totalDays;
+    private Long eventId;
+    private String eventTitle;
+    private String eventCategory;
+    private Event.EventStatus eventStatus;
+    private LocalDateTime eventDateTime;
+    private LocalDateTime eventEndDateTime;
+    private String locationName;
+    private String city;
+    private String area;
+    private Long organizerId;
+    private String organizerName;
+    private List<FeedbackItem> feedbacks = new ArrayList<>();
+
+    public VolunteerHistoryDTO(Long id, EventVolunteer.VolunteerStatus status, LocalDateTime joinedAt,
+            LocalDateTime approvedAt, String rejectionReason, String certificateUrl,
+            LocalDateTime certificateIssuedAt, Integer presentDays, Integer totalDays, Long eventId, String eventTitle, String eventCategory,
+            Event.EventStatus eventStatus, LocalDateTime eventDateTime, LocalDateTime eventEndDateTime,
+            String locationName, String city, String area, Long organizerId, String organizerName) {
+        this.id = id;
+        this.status = status;
+        this.joinedAt = joinedAt;
+        this.approvedAt = approvedAt;
+        this.rejectionReason = rejectionReason;
+        this.certificateUrl = certificateUrl;
+        this.certificateIssuedAt = certificateIssuedAt;
+        this.presentDays = presentDays;
+        this.totalDays = totalDays;
+        this.eventId = eventId;
+        this.eventTitle = eventTitle;
+        this.eventCategory = eventCategory;
+        this.eventStatus = eventStatus;
+        this.eventDateTime = eventDateTime;
+        this.eventEndDateTime = eventEndDateTime;
+        this.locationName = locationName;
+        this.city = city;
+        this.area = area;
+        this.organizerId = organizerId;
+        this.organizerName = organizerName;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeedbackItem {
+        private Long id;
+        private String comment;
+        private Integer rating;
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.volunteerhub.dto;
+
+import com.volunteerhub.model.EventVolunteer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of an organizer's registration inbox, projected straight from the
+ * join of registrations, events and volunteers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerRequestDTO {
+    private Long id;
+    private EventVolunteer.VolunteerStatus status;
+    private LocalDateTime joinedAt;
+    private Long eventId;
+    private String eventTitle;
+    private LocalDateTime eventDateTime;
+    private Long volunteerId;
+    private String volunteerName;
+    private String volunteerEmail;
+    private Integer volunteerPoints;
+}
@@ -0,0 +1,12 @@
+package com.volunteerhub.exception;
+
+/**
+ * A join would overlap one of the volunteer's existing commitments. Reported to
+ * clients like any other rejected request.
+ */
+public class ScheduleConflictException extends RuntimeException {
+
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
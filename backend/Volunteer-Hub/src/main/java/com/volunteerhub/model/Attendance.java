@@ -4,10 +4,15 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance", indexes = {
+        @Index(name = "uk_attendance_event_volunteer_date", columnList = "event_volunteer_id, date", unique = true)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,6 +40,14 @@ public class Attendance {
     @Enumerated(EnumType.STRING)
     private AttendanceStatus status;
 
+    // Latest gate times reported by offline devices for this day
+    private LocalDateTime checkInAt;
+    private LocalDateTime checkOutAt;
+
+    // When the status was last decided; offline journal entries older than this lose
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     public enum AttendanceStatus {
         PRESENT, ABSENT
     }
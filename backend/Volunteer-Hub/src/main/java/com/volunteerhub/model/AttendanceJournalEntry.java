@@ -0,0 +1,62 @@
+package com.volunteerhub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gate event captured by a scanner while offline and uploaded later. A device numbers
+ * its entries, so (device, sequence) identifies an entry across retried uploads. Device
+ * ids are chosen by the client, so the key is scoped to the organizer who uploads.
+ */
+@Entity
+@Table(name = "attendance_journal", indexes = {
+        @Index(name = "uk_attendance_journal_organizer_device_sequence", columnList = "organizer_id, device_id, sequence", unique = true),
+        @Index(name = "idx_attendance_journal_event_volunteer_id", columnList = "event_volunteer_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Not null once DatabaseSchemaFixer has backfilled rows written before the column existed
+    @Column(name = "organizer_id")
+    private Long organizerId;
+
+    @Column(name = "device_id", nullable = false, length = 64)
+    private String deviceId;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    // Database-level cascade so deleting a registration (or its event) drops its journal
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_volunteer_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private EventVolunteer eventVolunteer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 16)
+    private EntryType entryType;
+
+    // Device clock at the gate; conflicts with server-side marks are decided on this
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    public enum EntryType {
+        CHECK_IN, CHECK_OUT
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -16,7 +17,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_date_time_id", columnList = "status, date_time, id"),
+        @Index(name = "idx_events_organizer_id", columnList = "organizer_id"),
+        @Index(name = "idx_events_status_end_date_time", columnList = "status, end_date_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,6 +45,51 @@ public class Event {
         if (this.registrationOpenDateTime == null) {
             this.registrationOpenDateTime = LocalDateTime.now();
         }
+        this.endDateTime = resolveEndDateTime();
+        this.registrationState = resolveRegistrationState(LocalDateTime.now());
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.endDateTime = resolveEndDateTime();
+        this.registrationState = resolveRegistrationState(LocalDateTime.now());
+    }
+
+    /**
+     * Mirrors the checks in joinEvent; EventRepository.registrationStateSql is the
+     * SQL twin used when the window engine flips rows in bulk.
+     */
+    public RegistrationState resolveRegistrationState(LocalDateTime now) {
+        if (status == null || status == EventStatus.DRAFT || status == EventStatus.PENDING_APPROVAL) {
+            return RegistrationState.UPCOMING;
+        }
+        if (status != EventStatus.PUBLISHED) {
+            return RegistrationState.CLOSED;
+        }
+        if (registrationOpenDateTime != null && now.isBefore(registrationOpenDateTime)) {
+            return RegistrationState.UPCOMING;
+        }
+        if (registrationCloseDateTime != null && now.isAfter(registrationCloseDateTime)) {
+            return RegistrationState.CLOSED;
+        }
+        return RegistrationState.OPEN;
+    }
+
+    /**
+     * End of the event: endDate/endTime when given, otherwise the start day at
+     * endTime, otherwise the start itself.
+     */
+    public LocalDateTime resolveEndDateTime() {
+        if (endDate != null) {
+            return endDate.atTime(endTime != null ? endTime : LocalTime.of(23, 59, 59));
+        }
+        if (dateTime == null) {
+            return null;
+        }
+        if (endTime != null && !dateTime.toLocalDate().atTime(endTime).isBefore(dateTime)) {
+            return dateTime.toLocalDate().atTime(endTime);
+        }
+        return dateTime;
     }
 
     // BASIC INFO - VALIDATED
@@ -69,6 +119,10 @@ public class Event {
     @JsonFormat(pattern = "HH:mm")
     private LocalTime endTime;
 
+    // Derived from endDate/endTime on every write so range queries can use an index
+    @Column(name = "end_date_time")
+    private LocalDateTime endDateTime;
+
     // LOCATION
     private String locationName;
     private String address;
@@ -80,6 +134,11 @@ public class Event {
     private LocalDateTime registrationOpenDateTime;
     private LocalDateTime registrationCloseDateTime;
 
+    // Materialized so lists can filter on it; flipped on schedule by RegistrationWindowService
+    @Enumerated(EnumType.STRING)
+    @Column(name = "registration_state", length = 16)
+    private RegistrationState registrationState;
+
     @Transient
     private LocalDate registrationOpenDate;
     @Transient
@@ -94,7 +153,10 @@ public class Event {
     @Max(value = 100, message = "Maximum 100 volunteers allowed")
     private Integer requiredVolunteers;
 
+    // Only ever changed by the atomic reserve/release UPDATEs in EventRepository,
+    // so entity saves can never write back a stale count
     @Builder.Default
+    @Column(updatable = false)
     private Integer currentVolunteers = 0;
     private String skillsRequired;
     private Integer minAge;
@@ -130,10 +192,20 @@ public class Event {
         CANCELLED
     }
 
+    public enum RegistrationState {
+        UPCOMING,
+        OPEN,
+        CLOSED
+    }
+
     // NEW FIELD
     @Column(columnDefinition = "TEXT")
     private String cancellationReason;
 
+    // Drives ETags for event and roster endpoints
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     @PostLoad
     public void populateTransientFields() {
         if (dateTime != null) {
@@ -0,0 +1,42 @@
+package com.volunteerhub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed top-K row per volunteer; written in bulk by the recommendation job.
+ */
+@Entity
+@Table(name = "event_recommendations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_recommendations_user_event", columnNames = { "user_id", "event_id" })
+}, indexes = {
+        @Index(name = "idx_event_recommendations_user_score", columnList = "user_id, score"),
+        @Index(name = "idx_event_recommendations_event_id", columnList = "event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
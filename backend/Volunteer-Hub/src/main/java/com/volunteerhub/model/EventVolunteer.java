@@ -3,12 +3,20 @@ package com.volunteerhub.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "event_volunteers")
+@Table(name = "event_volunteers", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_volunteers_event_volunteer", columnNames = { "event_id", "volunteer_id" })
+}, indexes = {
+        @Index(name = "idx_event_volunteers_event_status", columnList = "event_id, status"),
+        @Index(name = "idx_event_volunteers_event_status_joined_at", columnList = "event_id, status, joined_at, id"),
+        @Index(name = "idx_event_volunteers_volunteer_id", columnList = "volunteer_id"),
+        @Index(name = "idx_event_volunteers_volunteer_joined_at", columnList = "volunteer_id, joined_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +46,19 @@ public class EventVolunteer {
     private String certificateUrl;
     private LocalDateTime certificateIssuedAt;
 
+    // Attendance rows for this registration, kept by atomic SQL increments in the attendance
+    // write paths (never by entity saves) and repaired by the reconciliation sweep
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer presentDays = 0;
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer totalDays = 0;
+
+    // Drives ETags for roster and history endpoints
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "eventVolunteer", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     @ToString.Exclude
@@ -52,6 +73,6 @@ public class EventVolunteer {
     private List<Feedback> feedbacks = new ArrayList<>();
 
     public enum VolunteerStatus {
-        PENDING, APPROVED, REJECTED, REMOVED, ATTENDED
+        PENDING, APPROVED, REJECTED, REMOVED, ATTENDED, WAITLISTED
     }
 }
\ No newline at end of file
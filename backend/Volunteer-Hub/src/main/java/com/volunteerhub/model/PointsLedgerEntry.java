@@ -0,0 +1,56 @@
+package com.volunteerhub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of every points award. The unique (registration, date, reason)
+ * key makes awarding idempotent; {@code users.points} is the running balance.
+ * Ids are plain columns so history survives deleted registrations and events.
+ */
+@Entity
+@Table(name = "points_ledger", indexes = {
+        @Index(name = "uk_points_ledger_registration_date_reason", columnList = "event_volunteer_id, date, reason", unique = true),
+        @Index(name = "idx_points_ledger_user_id", columnList = "user_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointsLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_volunteer_id", nullable = false)
+    private Long eventVolunteerId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Reason reason;
+
+    @Column(nullable = false)
+    private Integer points;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum Reason {
+        ATTENDANCE
+    }
+}
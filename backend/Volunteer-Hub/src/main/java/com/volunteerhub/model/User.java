@@ -23,7 +23,9 @@ public class User {
 
     private String name;
 
+    // Balance of points_ledger; only credited by atomic SQL increments, never by entity saves
     @Builder.Default
+    @Column(updatable = false)
     private Integer points = 0;
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,42 @@
+package com.volunteerhub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * FIFO queue of WAITLISTED registrations per event; the identity id is the queue order.
+ */
+@Entity
+@Table(name = "event_waitlist", indexes = {
+        @Index(name = "idx_event_waitlist_event_id_id", columnList = "event_id, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    // Database-level cascade so deleting a registration (or its event) drops the queue entry
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_volunteer_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private EventVolunteer eventVolunteer;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
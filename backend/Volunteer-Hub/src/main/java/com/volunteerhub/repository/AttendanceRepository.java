@@ -3,6 +3,8 @@ package com.volunteerhub.repository;
 import com.volunteerhub.model.Attendance;
 import com.volunteerhub.model.EventVolunteer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,8 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findByEventVolunteer(EventVolunteer eventVolunteer);
 
     Optional<Attendance> findByEventVolunteerAndDate(EventVolunteer eventVolunteer, LocalDate date);
+
+    @Query("SELECT a.eventVolunteer.id FROM Attendance a WHERE a.eventVolunteer.event.id = :eventId "
+            + "AND a.date = :date AND a.status = com.volunteerhub.model.Attendance.AttendanceStatus.PRESENT")
+    List<Long> findPresentRegistrationIds(@Param("eventId") Long eventId, @Param("date") LocalDate date);
 }
@@ -0,0 +1,26 @@
+package com.volunteerhub.repository;
+
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.model.EventRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventRecommendationRepository extends JpaRepository<EventRecommendation, Long> {
+
+    // Rows may outlive an event's eligibility until the next refresh, so re-check it here
+    @Query(EventRepository.SUMMARY_SELECT + ", EventRecommendation r "
+            + "WHERE r.eventId = e.id AND r.userId = :userId "
+            + "AND e.status = com.volunteerhub.model.Event.EventStatus.PUBLISHED AND e.dateTime > :now "
+            + "AND (e.requiredVolunteers IS NULL OR e.currentVolunteers < e.requiredVolunteers) "
+            + "ORDER BY r.score DESC, e.dateTime, e.id")
+    List<EventSummaryDTO> findRecommendedSummaries(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    boolean existsByUserId(Long userId);
+
+    @Query("SELECT r.userId FROM EventRecommendation r WHERE r.eventId = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") Long eventId);
+}
@@ -1,13 +1,40 @@
 package com.volunteerhub.repository;
 
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.dto.VersionStamp;
 import com.volunteerhub.model.Event;
 import com.volunteerhub.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    String SUMMARY_SELECT = "SELECT new com.volunteerhub.dto.EventSummaryDTO(e.id, e.title, e.category, "
+            + "SUBSTRING(e.description, 1, 200), e.status, e.dateTime, e.endDate, e.endDateTime, e.startTime, e.endTime, "
+            + "e.locationName, e.city, e.area, e.requiredVolunteers, e.currentVolunteers, "
+            + "e.registrationOpenDateTime, e.registrationCloseDateTime, e.registrationState, o.id, o.name) "
+            + "FROM Event e JOIN e.organizer o ";
+
+    /**
+     * SQL twin of {@link Event#resolveRegistrationState}; {@code now} is a bind
+     * marker or SQL expression and appears twice.
+     */
+    static String registrationStateSql(String now) {
+        return "CASE WHEN status IN ('DRAFT', 'PENDING_APPROVAL') THEN 'UPCOMING' "
+                + "WHEN status <> 'PUBLISHED' THEN 'CLOSED' "
+                + "WHEN registration_open_date_time > " + now + " THEN 'UPCOMING' "
+                + "WHEN registration_close_date_time < " + now + " THEN 'CLOSED' ELSE 'OPEN' END";
+    }
+
     List<Event> findByOrganizer(User organizer);
 
     List<Event> findByStatus(Event.EventStatus status);
@@ -20,4 +47,110 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             @org.springframework.data.repository.query.Param("status") Event.EventStatus status);
 
     long countByStatus(Event.EventStatus status);
+
+    @Query("SELECT e.organizer.id FROM Event e WHERE e.id = :id")
+    Optional<Long> findOrganizerIdById(@Param("id") Long id);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.id = :id")
+    Optional<Event> findByIdWithOrganizer(@Param("id") Long id);
+
+    // Keyset page over (dateTime, id); served by idx_events_status_date_time_id.
+    // Date bounds and the cursor are always bound (callers pass sentinels) so the range stays sargable.
+    @Query(SUMMARY_SELECT
+            + "WHERE e.status = :status "
+            + "AND (:category IS NULL OR e.category = :category) "
+            + "AND (:city IS NULL OR e.city = :city) "
+            + "AND e.dateTime >= :from AND e.dateTime < :to "
+            + "AND (e.dateTime > :afterDateTime OR (e.dateTime = :afterDateTime AND e.id > :afterId)) "
+            + "ORDER BY e.dateTime ASC, e.id ASC")
+    List<EventSummaryDTO> findCatalogPage(
+            @Param("status") Event.EventStatus status,
+            @Param("category") String category,
+            @Param("city") String city,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterDateTime") LocalDateTime afterDateTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("SELECT e.status, e.category, e.city, e.area, YEAR(e.dateTime), MONTH(e.dateTime), COUNT(e) "
+            + "FROM Event e GROUP BY e.status, e.category, e.city, e.area, YEAR(e.dateTime), MONTH(e.dateTime)")
+    List<Object[]> countFacetCombinations();
+
+    @Query(SUMMARY_SELECT + "WHERE o.id = :organizerId ORDER BY e.id")
+    List<EventSummaryDTO> findSummariesByOrganizerId(@Param("organizerId") Long organizerId);
+
+    @Query(SUMMARY_SELECT + "WHERE e.status = :status ORDER BY e.dateTime ASC, e.id ASC")
+    List<EventSummaryDTO> findSummariesByStatus(@Param("status") Event.EventStatus status);
+
+    @Query(SUMMARY_SELECT + "ORDER BY e.id")
+    List<EventSummaryDTO> findAllSummaries();
+
+    @Query("SELECT new com.volunteerhub.dto.VersionStamp(COUNT(e), MAX(e.updatedAt)) FROM Event e WHERE e.id = :id")
+    VersionStamp findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.volunteerhub.dto.VersionStamp(COUNT(e), MAX(e.updatedAt)) FROM Event e "
+            + "WHERE e.status = :status")
+    VersionStamp findVersionByStatus(@Param("status") Event.EventStatus status);
+
+    @Query("SELECT new com.volunteerhub.dto.VersionStamp(COUNT(e), MAX(e.updatedAt)) FROM Event e "
+            + "WHERE e.organizer.id = :organizerId")
+    VersionStamp findVersionByOrganizerId(@Param("organizerId") Long organizerId);
+
+    // Roster rows embed their event, so the event's own timestamp counts too
+    @Query("SELECT new com.volunteerhub.dto.VersionStamp(COUNT(ev), MAX(ev.updatedAt), MAX(e.updatedAt)) "
+            + "FROM Event e LEFT JOIN e.registrations ev WHERE e.id = :eventId")
+    VersionStamp findRosterVersion(@Param("eventId") Long eventId);
+
+    @Query("SELECT e.id, e.status, e.dateTime, e.endDateTime FROM Event e "
+            + "WHERE e.status IN :statuses AND e.dateTime IS NOT NULL")
+    List<Object[]> findTimelineSlots(@Param("statuses") Collection<Event.EventStatus> statuses);
+
+    // Published events with a registration window edge inside [from, to)
+    @Query("SELECT e.id, e.registrationOpenDateTime, e.registrationCloseDateTime FROM Event e "
+            + "WHERE e.status = com.volunteerhub.model.Event.EventStatus.PUBLISHED "
+            + "AND ((e.registrationOpenDateTime >= :from AND e.registrationOpenDateTime < :to) "
+            + "OR (e.registrationCloseDateTime >= :from AND e.registrationCloseDateTime < :to))")
+    List<Object[]> findRegistrationWindowEdges(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT e.id, e.category, e.city, e.skillsRequired, e.requiredVolunteers, e.currentVolunteers FROM Event e "
+            + "WHERE e.status = com.volunteerhub.model.Event.EventStatus.PUBLISHED AND e.dateTime > :now")
+    List<Object[]> findRecommendationCandidates(@Param("now") LocalDateTime now);
+
+    @Query(SUMMARY_SELECT + "WHERE e.id IN :ids")
+    List<EventSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Relevance-ranked ids from the GIN-indexed search_vector column (see DatabaseSchemaFixer)
+    @Query(value = "SELECT e.id FROM events e, websearch_to_tsquery('english', :query) q "
+            + "WHERE e.status = 'PUBLISHED' AND e.search_vector @@ q "
+            + "ORDER BY ts_rank_cd(e.search_vector, q) DESC, e.id ASC "
+            + "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchPublishedEventIds(@Param("query") String query, @Param("limit") int limit,
+            @Param("offset") int offset);
+
+    // Single conditional statement: the row lock serialises concurrent joins and the
+    // WHERE clause makes overselling impossible. Returns 0 when full or not published;
+    // findJoinWindow tells the two apart.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.currentVolunteers = e.currentVolunteers + 1, e.updatedAt = :now "
+            + "WHERE e.id = :id AND e.status = com.volunteerhub.model.Event.EventStatus.PUBLISHED "
+            + "AND (e.requiredVolunteers IS NULL OR e.currentVolunteers < e.requiredVolunteers)")
+    int reserveSlot(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Scalars, so the answer comes from the row and not from an entity loaded earlier in the session
+    @Query("SELECT e.status, e.registrationOpenDateTime, e.registrationCloseDateTime FROM Event e WHERE e.id = :id")
+    List<Object[]> findJoinWindow(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.currentVolunteers = e.currentVolunteers - 1, e.updatedAt = :now "
+            + "WHERE e.id = :id AND e.currentVolunteers > 0")
+    int releaseSlot(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.currentVolunteers = CASE WHEN e.currentVolunteers > :count "
+            + "THEN e.currentVolunteers - :count ELSE 0 END, e.updatedAt = :now WHERE e.id = :id")
+    int releaseSlots(@Param("id") Long id, @Param("count") int count, @Param("now") LocalDateTime now);
 }
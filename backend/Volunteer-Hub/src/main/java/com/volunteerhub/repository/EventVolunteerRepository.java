@@ -1,25 +1,137 @@
 package com.volunteerhub.repository;
 
+import com.volunteerhub.dto.ScheduleConflictDTO;
+import com.volunteerhub.dto.VersionStamp;
+import com.volunteerhub.dto.VolunteerHistoryDTO;
+import com.volunteerhub.dto.VolunteerRequestDTO;
 import com.volunteerhub.model.Event;
 import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface EventVolunteerRepository extends JpaRepository<EventVolunteer, Long> {
+    String REQUEST_SELECT = "SELECT new com.volunteerhub.dto.VolunteerRequestDTO(ev.id, ev.status, ev.joinedAt, "
+            + "e.id, e.title, e.dateTime, v.id, v.name, v.email, v.points) "
+            + "FROM EventVolunteer ev JOIN ev.event e JOIN ev.volunteer v "
+            + "WHERE e.organizer.id = :organizerId AND ev.status = :status ";
+
     List<EventVolunteer> findByEventAndStatus(Event event, EventVolunteer.VolunteerStatus status);
 
     List<EventVolunteer> findByVolunteerAndStatus(User volunteer, EventVolunteer.VolunteerStatus status);
 
     List<EventVolunteer> findByEvent(Event event);
 
-    @org.springframework.data.jpa.repository.Query("SELECT DISTINCT ev FROM EventVolunteer ev JOIN FETCH ev.volunteer LEFT JOIN FETCH ev.feedbacks WHERE ev.event.id = :eventId")
-    List<EventVolunteer> findByEventIdWithDetails(
-            @org.springframework.data.repository.query.Param("eventId") Long eventId);
+    @Query("SELECT DISTINCT ev FROM EventVolunteer ev JOIN FETCH ev.volunteer LEFT JOIN FETCH ev.feedbacks WHERE ev.event.id = :eventId")
+    List<EventVolunteer> findByEventIdWithDetails(@Param("eventId") Long eventId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT DISTINCT ev FROM EventVolunteer ev LEFT JOIN FETCH ev.feedbacks WHERE ev.volunteer = :volunteer")
-    List<EventVolunteer> findByVolunteer(
-            @org.springframework.data.repository.query.Param("volunteer") User volunteer);
+    @Query("SELECT DISTINCT ev FROM EventVolunteer ev JOIN FETCH ev.event e JOIN FETCH e.organizer "
+            + "LEFT JOIN FETCH ev.feedbacks WHERE ev.volunteer = :volunteer")
+    List<EventVolunteer> findByVolunteer(@Param("volunteer") User volunteer);
 
     boolean existsByEventAndVolunteer(Event event, User volunteer);
-}
\ No newline at end of file
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventVolunteer ev SET ev.updatedAt = :now WHERE ev.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // The counters are not updatable through entity saves, so this is their only JPA write path
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventVolunteer ev SET ev.presentDays = COALESCE(ev.presentDays, 0) + :present, "
+            + "ev.totalDays = COALESCE(ev.totalDays, 0) + :total WHERE ev.id = :id")
+    int adjustAttendanceCounters(@Param("id") Long id, @Param("present") int present, @Param("total") int total);
+
+    // History rows embed their event, so event timestamps count too
+    @Query("SELECT new com.volunteerhub.dto.VersionStamp(COUNT(ev), MAX(ev.updatedAt), MAX(e.updatedAt)) "
+            + "FROM EventVolunteer ev JOIN ev.event e WHERE ev.volunteer.id = :volunteerId")
+    VersionStamp findHistoryVersion(@Param("volunteerId") Long volunteerId);
+
+    @Query("SELECT ev.volunteer.id, e.id, e.category, e.city, e.skillsRequired, ev.status "
+            + "FROM EventVolunteer ev JOIN ev.event e")
+    List<Object[]> findHistoryFeatures();
+
+    @Query("SELECT ev.volunteer.id, e.id, e.category, e.city, e.skillsRequired, ev.status "
+            + "FROM EventVolunteer ev JOIN ev.event e WHERE ev.volunteer.id IN :volunteerIds")
+    List<Object[]> findHistoryFeaturesByVolunteerIdIn(@Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Modifying
+    @Query("UPDATE EventVolunteer ev SET ev.status = com.volunteerhub.model.EventVolunteer.VolunteerStatus.PENDING, "
+            + "ev.updatedAt = :now WHERE ev.id = :id "
+            + "AND ev.status = com.volunteerhub.model.EventVolunteer.VolunteerStatus.WAITLISTED")
+    int promoteFromWaitlist(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Everything notifications and async emails read, so nothing is left to lazy-load off-session
+    @Query("SELECT ev FROM EventVolunteer ev JOIN FETCH ev.event e JOIN FETCH e.organizer JOIN FETCH ev.volunteer "
+            + "WHERE ev.id IN :ids")
+    List<EventVolunteer> findWithEventAndVolunteerByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Organizer inbox, keyset over (joinedAt, id). idx_event_volunteers_event_status_joined_at only finds
+    // each event's rows in (event_id, status); the order spans all of the organizer's events, so every
+    // page is a top-N sort over the organizer's matching rows rather than an index walk
+    @Query(REQUEST_SELECT
+            + "AND (ev.joinedAt > :afterJoinedAt OR (ev.joinedAt = :afterJoinedAt AND ev.id > :afterId)) "
+            + "ORDER BY ev.joinedAt ASC, ev.id ASC")
+    List<VolunteerRequestDTO> findOrganizerRequestsOldestFirst(
+            @Param("organizerId") Long organizerId,
+            @Param("status") EventVolunteer.VolunteerStatus status,
+            @Param("afterJoinedAt") LocalDateTime afterJoinedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(REQUEST_SELECT
+            + "AND (ev.joinedAt < :beforeJoinedAt OR (ev.joinedAt = :beforeJoinedAt AND ev.id < :beforeId)) "
+            + "ORDER BY ev.joinedAt DESC, ev.id DESC")
+    List<VolunteerRequestDTO> findOrganizerRequestsNewestFirst(
+            @Param("organizerId") Long organizerId,
+            @Param("status") EventVolunteer.VolunteerStatus status,
+            @Param("beforeJoinedAt") LocalDateTime beforeJoinedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    // Newest-first history keyset over (joinedAt, id); served by idx_event_volunteers_volunteer_joined_at
+    @Query("SELECT new com.volunteerhub.dto.VolunteerHistoryDTO(ev.id, ev.status, ev.joinedAt, ev.approvedAt, "
+            + "ev.rejectionReason, ev.certificateUrl, ev.certificateIssuedAt, ev.presentDays, ev.totalDays, "
+            + "e.id, e.title, e.category, e.status, "
+            + "e.dateTime, e.endDateTime, e.locationName, e.city, e.area, o.id, o.name) "
+            + "FROM EventVolunteer ev JOIN ev.event e JOIN e.organizer o "
+            + "WHERE ev.volunteer.id = :volunteerId "
+            + "AND (ev.joinedAt < :beforeJoinedAt OR (ev.joinedAt = :beforeJoinedAt AND ev.id < :beforeId)) "
+            + "ORDER BY ev.joinedAt DESC, ev.id DESC")
+    List<VolunteerHistoryDTO> findHistoryPage(
+            @Param("volunteerId") Long volunteerId,
+            @Param("beforeJoinedAt") LocalDateTime beforeJoinedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    // id, volunteer id and status of the given registrations that belong to the event
+    @Query("SELECT ev.id, ev.volunteer.id, ev.status FROM EventVolunteer ev "
+            + "WHERE ev.event.id = :eventId AND ev.id IN :ids")
+    List<Object[]> findRosterEntries(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids);
+
+    // id, volunteer id, status, owning organizer and event span of registrations across any events
+    @Query("SELECT ev.id, ev.volunteer.id, ev.status, e.organizer.id, e.dateTime, e.endDateTime "
+            + "FROM EventVolunteer ev JOIN ev.event e WHERE ev.id IN :ids")
+    List<Object[]> findJournalTargets(@Param("ids") Collection<Long> ids);
+
+    // Everyone who may pass the gate: registration id, volunteer id and name
+    @Query("SELECT ev.id, v.id, v.name FROM EventVolunteer ev JOIN ev.volunteer v WHERE ev.event.id = :eventId "
+            + "AND ev.status IN (com.volunteerhub.model.EventVolunteer.VolunteerStatus.APPROVED, "
+            + "com.volunteerhub.model.EventVolunteer.VolunteerStatus.ATTENDED) ORDER BY ev.id")
+    List<Object[]> findCheckInRoster(@Param("eventId") Long eventId);
+
+    @Query("SELECT new com.volunteerhub.dto.ScheduleConflictDTO(ev.id, ev.status, e.id, e.title, e.status, "
+            + "e.dateTime, e.endDateTime) FROM EventVolunteer ev JOIN ev.event e "
+            + "WHERE ev.volunteer.id = :volunteerId AND ev.status IN :statuses")
+    List<ScheduleConflictDTO> findCommitments(@Param("volunteerId") Long volunteerId,
+            @Param("statuses") Collection<EventVolunteer.VolunteerStatus> statuses);
+}
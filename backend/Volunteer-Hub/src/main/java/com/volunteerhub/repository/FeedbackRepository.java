@@ -2,6 +2,14 @@ package com.volunteerhub.repository;
 
 import com.volunteerhub.model.Feedback;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
+
+    @Query("SELECT f FROM Feedback f WHERE f.eventVolunteer.id IN :eventVolunteerIds ORDER BY f.createdAt, f.id")
+    List<Feedback> findByEventVolunteerIdIn(@Param("eventVolunteerIds") Collection<Long> eventVolunteerIds);
 }
@@ -2,7 +2,10 @@ package com.volunteerhub.repository;
 
 import com.volunteerhub.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +18,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByRole(User.Role role);
 
     long countByRole(User.Role role);
+
+    @Query("SELECT u.id, u.points FROM User u WHERE u.role = :role")
+    List<Object[]> findIdAndPointsByRole(@Param("role") User.Role role);
+
+    @Query("SELECT u.id, u.points FROM User u WHERE u.role = :role AND u.id IN :ids")
+    List<Object[]> findIdAndPointsByRoleAndIdIn(@Param("role") User.Role role, @Param("ids") Collection<Long> ids);
 }
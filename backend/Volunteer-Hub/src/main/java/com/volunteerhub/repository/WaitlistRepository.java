@@ -0,0 +1,37 @@
+package com.volunteerhub.repository;
+
+import com.volunteerhub.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // Head of the queue via the (event_id, id) index; SKIP LOCKED lets concurrent
+    // releases each take a different entry instead of queueing behind one another
+    @Query(value = "SELECT * FROM event_waitlist WHERE event_id = :eventId ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<WaitlistEntry> lockHead(@Param("eventId") Long eventId);
+
+    @Query("SELECT DISTINCT w.eventId FROM WaitlistEntry w, Event e WHERE e.id = w.eventId "
+            + "AND e.status = com.volunteerhub.model.Event.EventStatus.PUBLISHED "
+            + "AND (e.requiredVolunteers IS NULL OR e.currentVolunteers < e.requiredVolunteers)")
+    List<Long> findEventIdsWithFreeCapacity();
+
+    Optional<WaitlistEntry> findByEventVolunteerId(Long eventVolunteerId);
+
+    long countByEventIdAndIdLessThanEqual(Long eventId, Long id);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.eventVolunteer.id = :eventVolunteerId")
+    int deleteByEventVolunteerId(@Param("eventVolunteerId") Long eventVolunteerId);
+
+    // A cancelled event will never promote anyone, so its whole queue goes
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
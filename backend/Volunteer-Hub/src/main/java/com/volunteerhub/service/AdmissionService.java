@@ -0,0 +1,19 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.AdmissionTicketDTO;
+
+public interface AdmissionService {
+
+    /**
+     * Queue a join request without touching the database. Re-submitting while
+     * a ticket is still queued returns that ticket.
+     */
+    AdmissionTicketDTO enqueue(Long eventId, Long volunteerId);
+
+    AdmissionTicketDTO getTicket(String ticketId);
+
+    /**
+     * Move queued requests into the database in batches, in arrival order.
+     */
+    void drainQueues();
+}
@@ -0,0 +1,17 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.CertificateJobDTO;
+
+public interface CertificateService {
+
+    // Minimum share of event days a volunteer must attend to earn a certificate
+    double MIN_ATTENDANCE_PERCENT = 75.0;
+
+    /**
+     * Render and store certificates for every eligible registration of an event in
+     * the background. Returns immediately with the queued job.
+     */
+    CertificateJobDTO startBatch(Long eventId, Long organizerId, boolean reissue);
+
+    CertificateJobDTO getJob(String jobId);
+}
@@ -0,0 +1,24 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.CheckInScanRequest;
+import com.volunteerhub.dto.CheckInScanResultDTO;
+import com.volunteerhub.dto.CheckInTokenDTO;
+
+public interface CheckInService {
+
+    /**
+     * Signed, stateless pass for an approved registration, valid around the event's dates.
+     */
+    CheckInTokenDTO issueToken(Long registrationId, Long volunteerId);
+
+    /**
+     * Verify a scanned pass and record today's check-in. Signature and duplicate
+     * checks are in memory; the attendance row is written by {@link #flush()}.
+     */
+    CheckInScanResultDTO scan(CheckInScanRequest request);
+
+    /**
+     * Write queued check-ins to the database in batches.
+     */
+    void flush();
+}
@@ -1,8 +1,11 @@
 package com.volunteerhub.service;
 
 import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.User;
 
+import java.util.List;
+
 public interface EmailService {
     void sendVerificationEmail(User user, String otp);
 
@@ -33,4 +36,11 @@ public interface EmailService {
     void sendDocumentRejectedEmail(User user, String reason);
 
     void sendSupportTicketResolvedEmail(User user, com.volunteerhub.model.SupportTicket ticket);
+
+    // Run on the async executor; registrations must have event, organizer and volunteer loaded
+    void sendEventJoinRequestEmails(List<EventVolunteer> registrations);
+
+    void sendEventJoinRejectedEmails(List<EventVolunteer> registrations, String reason);
+
+    void sendCertificationIssuedEmails(List<User> volunteers, Event event);
 }
@@ -0,0 +1,20 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.CacheStatsDTO;
+import com.volunteerhub.dto.EventDetailsDTO;
+
+import java.util.function.Function;
+
+public interface EventCacheService {
+
+    /**
+     * Return the cached snapshot, loading and caching it on a miss.
+     */
+    EventDetailsDTO get(Long eventId, Function<Long, EventDetailsDTO> loader);
+
+    void invalidate(Long eventId);
+
+    void invalidateAll();
+
+    CacheStatsDTO getStats();
+}
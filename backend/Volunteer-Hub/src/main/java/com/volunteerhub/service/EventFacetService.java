@@ -0,0 +1,37 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.EventFacetsDTO;
+import com.volunteerhub.model.Event;
+import lombok.Value;
+
+import java.time.YearMonth;
+
+public interface EventFacetService {
+
+    /**
+     * Apply an event transition to the in-memory counts. {@code before} is null for
+     * new events and {@code after} is null for deleted ones.
+     */
+    void recordChange(FacetKey before, FacetKey after);
+
+    EventFacetsDTO getFacets(Event.EventStatus status);
+
+    /**
+     * Rebuild all counts from the database and swap them in.
+     */
+    void reconcile();
+
+    @Value
+    class FacetKey {
+        Event.EventStatus status;
+        String category;
+        String city;
+        String area;
+        String dateBucket;
+
+        public static FacetKey of(Event event) {
+            return new FacetKey(event.getStatus(), event.getCategory(), event.getCity(), event.getArea(),
+                    event.getDateTime() != null ? YearMonth.from(event.getDateTime()).toString() : null);
+        }
+    }
+}
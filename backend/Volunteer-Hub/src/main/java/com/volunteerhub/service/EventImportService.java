@@ -0,0 +1,21 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.EventImportResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface EventImportService {
+
+    enum Format {
+        CSV,
+        JSON
+    }
+
+    /**
+     * Stream events from CSV (header row + one event per line) or a JSON array of
+     * objects, using the same field names as {@code POST /api/events}. Valid rows are
+     * inserted as PENDING_APPROVAL; invalid rows are reported and skipped.
+     */
+    EventImportResultDTO importEvents(InputStream input, Format format, Long userId) throws IOException;
+}
@@ -1,8 +1,15 @@
 package com.volunteerhub.service;
 
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.EventCompletionStatsDTO;
+import com.volunteerhub.dto.EventDetailsDTO;
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.dto.PageResultDTO;
+import com.volunteerhub.dto.VersionStamp;
 import com.volunteerhub.model.Event;
 import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.User;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface EventService {
@@ -12,6 +19,15 @@ public interface EventService {
 
     List<Event> getPublishedEvents();
 
+    List<EventSummaryDTO> getEventSummariesByOrganizer(Long userId);
+
+    List<EventSummaryDTO> getPublishedEventSummaries();
+
+    CursorPageDTO<EventSummaryDTO> getPublishedCatalog(String cursor, Integer size, String category, String city,
+            LocalDate from, LocalDate to);
+
+    PageResultDTO<EventSummaryDTO> searchEvents(String query, Integer page, Integer size);
+
     Event updateEvent(Long id, Event event, Long userId);
 
     Event publishEvent(Long id, Long userId);
@@ -20,6 +36,8 @@ public interface EventService {
 
     void deleteEvent(Long id, Long userId);
 
+    void deleteEventAsAdmin(Long id);
+
     Event cancelEvent(Long id, Long userId, String reason);
 
     List<Event> getAllEvents();
@@ -29,7 +47,22 @@ public interface EventService {
 
     Event getEventById(Long eventId);
 
+    EventDetailsDTO getEventDetails(Long eventId);
+
+    VersionStamp getEventVersion(Long eventId);
+
+    VersionStamp getPublishedEventsVersion();
+
+    VersionStamp getOrganizerEventsVersion(Long userId);
+
+    VersionStamp getEventVolunteersVersion(Long eventId);
+
     Event approveEvent(Long id);
 
     Event rejectEvent(Long id);
+
+    // Completes PUBLISHED events whose end has passed, a page per transaction; returns how many
+    int completePastEvents();
+
+    EventCompletionStatsDTO getCompletionStats();
 }
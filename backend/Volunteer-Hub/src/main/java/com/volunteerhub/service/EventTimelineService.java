@@ -0,0 +1,30 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.model.Event;
+
+import java.time.LocalDateTime;
+
+public interface EventTimelineService {
+
+    /**
+     * Re-index an event after a persisted change; events leaving the timeline
+     * statuses are dropped.
+     */
+    void recordChange(Event event);
+
+    void remove(Long eventId);
+
+    /**
+     * Events whose [start, end] overlaps [from, to], ordered by start and paged
+     * with an opaque cursor.
+     */
+    CursorPageDTO<EventSummaryDTO> getTimeline(LocalDateTime from, LocalDateTime to, Event.EventStatus status,
+            String cursor, Integer size);
+
+    /**
+     * Rebuild the index from the database and swap it in.
+     */
+    void reload();
+}
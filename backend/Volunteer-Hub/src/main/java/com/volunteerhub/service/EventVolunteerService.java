@@ -1,29 +1,78 @@
 package com.volunteerhub.service;
 
+import com.volunteerhub.dto.AttendanceSyncRequest;
+import com.volunteerhub.dto.AttendanceSyncResultDTO;
+import com.volunteerhub.dto.BulkDecisionRequest;
+import com.volunteerhub.dto.BulkDecisionResultDTO;
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.RollCallResultDTO;
+import com.volunteerhub.dto.VersionStamp;
+import com.volunteerhub.dto.VolunteerHistoryDTO;
+import com.volunteerhub.dto.VolunteerRequestDTO;
 import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.Feedback;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface EventVolunteerService {
+    // Ledger award for each day a volunteer is marked PRESENT
+    int POINTS_PER_ATTENDED_DAY = 50;
+
     EventVolunteer joinEvent(Long eventId, Long volunteerId);
 
+    // Registers volunteers in the given order, skipping unknown users and existing registrations
+    List<EventVolunteer> joinEventBatch(Long eventId, List<Long> volunteerIds);
+
     EventVolunteer approveVolunteer(Long eventVolunteerId, Long organizerId);
 
     EventVolunteer rejectVolunteer(Long eventVolunteerId, Long organizerId, String reason);
 
+    // Approve or reject many registrations at once; failures are reported per id
+    BulkDecisionResultDTO bulkDecision(BulkDecisionRequest request);
+
     void removeVolunteer(Long eventVolunteerId, Long organizerId);
 
     List<EventVolunteer> getEventVolunteers(Long eventId);
 
     List<EventVolunteer> getVolunteerHistory(Long volunteerId);
 
-    List<EventVolunteer> getOrganizerVolunteerRequests(Long organizerId);
+    // Newest registrations first, keyset-paged by join time
+    CursorPageDTO<VolunteerHistoryDTO> getVolunteerHistoryPage(Long volunteerId, String cursor, Integer size);
+
+    VersionStamp getVolunteerHistoryVersion(Long volunteerId);
+
+    // Registrations across all of an organizer's events, keyset-paged by join time
+    CursorPageDTO<VolunteerRequestDTO> getOrganizerVolunteerRequests(Long organizerId, String status,
+            String cursor, Integer size, boolean newestFirst);
 
     EventVolunteer markAttendance(Long eventVolunteerId, Long organizerId, LocalDate date, boolean attended);
 
+    // Whole-roster attendance for one event day, keyed by registration id (true = present)
+    RollCallResultDTO recordRollCall(Long eventId, Long organizerId, LocalDate date, Map<Long, Boolean> roster);
+
+    // Outcome of a check-in write: how many days turned PRESENT, and which registrations were
+    // no longer on the roster (cancelled or removed since the scan) and so were not written
+    record CheckInWrite(int created, List<Long> dropped) {
+    }
+
+    // Marks already-verified registrations PRESENT (registration id -> volunteer id)
+    CheckInWrite recordCheckIns(LocalDate date, Map<Long, Long> volunteerByRegistration);
+
+    // Replays a scanner's offline journal; idempotent per (organizer, device, sequence), last writer wins on device time
+    AttendanceSyncResultDTO syncAttendanceJournal(AttendanceSyncRequest request);
+
     void cancelRequest(Long eventVolunteerId, Long volunteerId);
 
+    // 1-based place in the event's waitlist, or 0 when not waitlisted
+    long getWaitlistPosition(Long eventVolunteerId, Long volunteerId);
+
+    // Fill free slots from waitlists (safety net for releases that raced a new waitlist entry)
+    void promoteWaitlistedVolunteers();
+
+    // Recount present/total attendance days where the counters drifted; returns how many were repaired
+    int reconcileAttendanceCounters();
+
     // Submit feedback
     Feedback submitFeedback(Long eventVolunteerId, Long volunteerId, String comment, Integer rating);
 
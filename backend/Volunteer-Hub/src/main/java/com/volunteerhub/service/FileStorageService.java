@@ -14,6 +14,11 @@ public interface FileStorageService {
 
     String storeCertificate(MultipartFile file, Long registrationId) throws IOException;
 
+    /**
+     * Store a server-rendered certificate PDF and return its relative path
+     */
+    String storeCertificate(byte[] pdf, Long registrationId) throws IOException;
+
     /**
      * Load a file as a resource
      */
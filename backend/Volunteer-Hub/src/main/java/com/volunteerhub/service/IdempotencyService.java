@@ -0,0 +1,29 @@
+package com.volunteerhub.service;
+
+public interface IdempotencyService {
+
+    enum Outcome {
+        // First time this key is seen: run the request, then complete or release
+        PROCEED,
+        REPLAY,
+        // Another request holding the key has not finished yet
+        IN_PROGRESS,
+        // The key was already used for a different request
+        MISMATCH
+    }
+
+    record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    record Claim(Outcome outcome, StoredResponse response) {
+    }
+
+    Claim begin(String key, String fingerprint);
+
+    void complete(String key, String fingerprint, StoredResponse response);
+
+    // Give the key back after a failure so the client can retry for real
+    void release(String key);
+
+    void purgeExpired();
+}
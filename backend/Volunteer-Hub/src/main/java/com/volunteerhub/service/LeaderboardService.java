@@ -0,0 +1,22 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.LeaderboardDTO;
+
+public interface LeaderboardService {
+
+    /**
+     * Top volunteers by points, globally or for points earned at events in one
+     * city or category. {@code userId} adds that volunteer's own rank.
+     */
+    LeaderboardDTO getLeaderboard(String city, String category, Integer limit, Long userId);
+
+    /**
+     * Apply ledger rows appended since the last call to the in-memory boards.
+     */
+    void poll();
+
+    /**
+     * Rebuild every board from the balances and the ledger and swap them in.
+     */
+    void rebuild();
+}
@@ -9,6 +9,9 @@ public interface NotificationService {
 
     Notification createNotification(User user, String title, String message, Notification.NotificationType type);
 
+    // One JDBC batch for many recipients; only user, title, message and type are read
+    void createNotifications(List<Notification> notifications);
+
     List<Notification> getUserNotifications(Long userId);
 
     void markAsRead(Long notificationId);
@@ -0,0 +1,35 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.EventSummaryDTO;
+
+import java.util.List;
+
+public interface RecommendationService {
+
+    /**
+     * Precomputed top-K published events for a volunteer, best first. Volunteers with
+     * no stored rows yet are scored on demand.
+     */
+    List<EventSummaryDTO> getRecommendations(Long volunteerId);
+
+    /**
+     * Queue an event for re-scoring on the next incremental pass (published, edited,
+     * closed or deleted).
+     */
+    void markEventChanged(Long eventId);
+
+    /**
+     * Queue a volunteer whose history or points changed.
+     */
+    void markVolunteerChanged(Long volunteerId);
+
+    /**
+     * Recompute every volunteer's top-K from scratch.
+     */
+    void refreshAll();
+
+    /**
+     * Apply queued event and volunteer changes.
+     */
+    void processPendingChanges();
+}
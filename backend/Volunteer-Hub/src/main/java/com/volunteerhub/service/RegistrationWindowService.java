@@ -0,0 +1,24 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.model.Event;
+
+public interface RegistrationWindowService {
+
+    /**
+     * Schedule the upcoming open/close transitions of a just-written event on
+     * this node. Stale timers are harmless: firing re-derives the state from the row.
+     */
+    void recordChange(Event event);
+
+    /**
+     * Fire due timers: pre-warm caches on every node, flip registration_state
+     * and notify volunteers on the lease holder only.
+     */
+    void tick();
+
+    /**
+     * Load window edges inside the look-ahead horizon into the wheel; the lease
+     * holder also reconciles any row whose state has drifted.
+     */
+    void refresh();
+}
@@ -0,0 +1,32 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.ScheduleConflictDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScheduleConflictService {
+
+    /**
+     * Slot-holding registrations of the volunteer whose events overlap
+     * [start, end). Back-to-back events do not conflict.
+     */
+    List<ScheduleConflictDTO> findConflicts(Long volunteerId, LocalDateTime start, LocalDateTime end,
+            Long excludeEventId);
+
+    List<ScheduleConflictDTO> findConflictsForEvent(Long volunteerId, Long eventId);
+
+    // A registration of this volunteer was created, changed or removed
+    void evictVolunteer(Long volunteerId);
+
+    /**
+     * Call inside a transaction that adds registrations for the volunteer, while
+     * holding their row lock. Their schedule is dropped now and not cached again
+     * until the transaction completes, so the next holder of the lock reads it
+     * from the database instead of a copy that predates this commit.
+     */
+    void evictVolunteerUntilCompletion(Long volunteerId);
+
+    // The event's times or status changed, or it was deleted
+    void evictEvent(Long eventId);
+}
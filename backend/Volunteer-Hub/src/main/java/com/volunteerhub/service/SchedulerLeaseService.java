@@ -0,0 +1,13 @@
+package com.volunteerhub.service;
+
+public interface SchedulerLeaseService {
+
+    /**
+     * True while this node holds the named lease. Acquires or renews it in the
+     * database when the last renewal is older than the renew interval, so it is
+     * cheap to call from frequent scheduled jobs.
+     */
+    boolean isLeader(String lease);
+
+    String getNodeId();
+}
@@ -0,0 +1,250 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.AdmissionTicketDTO;
+import com.volunteerhub.dto.ScheduleConflictDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.service.AdmissionService;
+import com.volunteerhub.service.EventVolunteerService;
+import com.volunteerhub.service.ScheduleConflictService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-event admission queues for registration rushes. Requests are accepted in
+ * memory and handed a position; a single worker drains each queue into the
+ * database in batches, so a burst becomes a steady stream of batched writes.
+ * Queues are per instance; the database's conditional slot updates keep
+ * capacity correct when several instances drain at once.
+ */
+@Service
+public class AdmissionServiceImpl implements AdmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionServiceImpl.class);
+
+    private final EventVolunteerService eventVolunteerService;
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final ScheduleConflictService scheduleConflictService;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final Duration ticketTtl;
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    // (eventId, volunteerId) -> ticket still waiting, so retries do not queue twice
+    private final Map<String, Ticket> waiting = new ConcurrentHashMap<>();
+
+    public AdmissionServiceImpl(EventVolunteerService eventVolunteerService, UserRepository userRepository,
+            EventRepository eventRepository, ScheduleConflictService scheduleConflictService,
+            @Value("${events.admission.queue-capacity:10000}") int queueCapacity,
+            @Value("${events.admission.batch-size:100}") int batchSize,
+            @Value("${events.admission.ticket-ttl-minutes:30}") long ticketTtlMinutes) {
+        this.eventVolunteerService = eventVolunteerService;
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.scheduleConflictService = scheduleConflictService;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.ticketTtl = Duration.ofMinutes(ticketTtlMinutes);
+    }
+
+    @Override
+    public AdmissionTicketDTO enqueue(Long eventId, Long volunteerId) {
+        String key = eventId + ":" + volunteerId;
+        Ticket existing = waiting.get(key);
+        if (existing != null) {
+            return toDto(existing);
+        }
+        while (true) {
+            EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue(queueCapacity));
+            synchronized (queue) {
+                if (queue.retired) {
+                    continue;
+                }
+                existing = waiting.get(key);
+                if (existing != null) {
+                    return toDto(existing);
+                }
+                Ticket ticket = new Ticket(UUID.randomUUID().toString(), eventId, volunteerId, queue,
+                        queue.issued + 1);
+                if (!queue.pending.offer(ticket)) {
+                    throw new RuntimeException("Too many volunteers are joining this event right now, please try again shortly");
+                }
+                queue.issued = ticket.sequence;
+                tickets.put(ticket.id, ticket);
+                waiting.put(key, ticket);
+                return toDto(ticket);
+            }
+        }
+    }
+
+    @Override
+    public AdmissionTicketDTO getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new RuntimeException("Queue ticket not found or expired");
+        }
+        return toDto(ticket);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.admission.drain-interval-ms:250}")
+    public void drainQueues() {
+        for (Map.Entry<Long, EventQueue> entry : queues.entrySet()) {
+            EventQueue queue = entry.getValue();
+            List<Ticket> batch = new ArrayList<>(batchSize);
+            // Only what was queued when the pass started, so one busy event cannot hold the worker forever
+            int rounds = (queue.pending.size() + batchSize - 1) / batchSize;
+            while (rounds-- > 0 && queue.pending.drainTo(batch, batchSize) > 0) {
+                admit(entry.getKey(), batch);
+                queue.admitted = batch.get(batch.size() - 1).sequence;
+                batch.clear();
+            }
+            synchronized (queue) {
+                if (queue.pending.isEmpty()) {
+                    queue.retired = true;
+                    queues.remove(entry.getKey(), queue);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.admission.ticket-cleanup-interval-ms:60000}")
+    public void expireTickets() {
+        Instant cutoff = Instant.now().minus(ticketTtl);
+        tickets.values().removeIf(ticket -> ticket.finishedAt != null && ticket.finishedAt.isBefore(cutoff));
+    }
+
+    private void admit(Long eventId, List<Ticket> batch) {
+        long started = System.currentTimeMillis();
+        try {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+            Set<Long> known = userRepository.findAllById(batch.stream().map(t -> t.volunteerId).toList()).stream()
+                    .map(User::getId).collect(Collectors.toSet());
+            Map<Long, String> refused = new HashMap<>();
+            for (Ticket ticket : batch) {
+                if (!known.contains(ticket.volunteerId)) {
+                    refused.put(ticket.volunteerId, "Volunteer not found");
+                    continue;
+                }
+                List<ScheduleConflictDTO> conflicts = scheduleConflictService.findConflicts(ticket.volunteerId,
+                        event.getDateTime(), event.resolveEndDateTime(), eventId);
+                if (!conflicts.isEmpty()) {
+                    refused.put(ticket.volunteerId, "Schedule conflict with '" + conflicts.get(0).getEventTitle() + "'");
+                }
+            }
+            Map<Long, EventVolunteer> registered = eventVolunteerService
+                    .joinEventBatch(eventId, batch.stream().map(t -> t.volunteerId)
+                            .filter(id -> !refused.containsKey(id)).toList())
+                    .stream()
+                    .collect(Collectors.toMap(ev -> ev.getVolunteer().getId(), Function.identity()));
+            for (Ticket ticket : batch) {
+                EventVolunteer ev = registered.get(ticket.volunteerId);
+                if (ev != null) {
+                    ticket.admitted(ev.getId(), ev.getStatus());
+                } else if (refused.containsKey(ticket.volunteerId)) {
+                    ticket.failed(refused.get(ticket.volunteerId));
+                } else {
+                    // Dropped inside the batch: an earlier registration, or a conflicting join that won the lock
+                    List<ScheduleConflictDTO> conflicts = scheduleConflictService.findConflicts(ticket.volunteerId,
+                            event.getDateTime(), event.resolveEndDateTime(), eventId);
+                    ticket.failed(conflicts.isEmpty() ? "Already joined this event"
+                            : "Schedule conflict with '" + conflicts.get(0).getEventTitle() + "'");
+                }
+            }
+            logger.info("🎟️ Admitted {} of {} queued join(s) for event {} in {} ms", registered.size(),
+                    batch.size(), eventId, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.warn("⚠️ Admission batch for event {} failed: {}", eventId, e.getMessage());
+            batch.forEach(ticket -> ticket.failed(e.getMessage()));
+        } finally {
+            batch.forEach(ticket -> waiting.remove(eventId + ":" + ticket.volunteerId, ticket));
+        }
+    }
+
+    private AdmissionTicketDTO toDto(Ticket ticket) {
+        AdmissionTicketDTO.State state = ticket.state;
+        return AdmissionTicketDTO.builder()
+                .ticketId(ticket.id)
+                .eventId(ticket.eventId)
+                .volunteerId(ticket.volunteerId)
+                .state(state)
+                .position(state == AdmissionTicketDTO.State.QUEUED
+                        ? Math.max(1, ticket.sequence - ticket.queue.admitted) : 0)
+                .registrationId(ticket.registrationId)
+                .registrationStatus(ticket.registrationStatus)
+                .message(ticket.message)
+                .build();
+    }
+
+    private static final class EventQueue {
+        final ArrayBlockingQueue<Ticket> pending;
+        // Guarded by the queue's monitor
+        long issued;
+        boolean retired;
+        // Sequence of the last ticket written to the database
+        volatile long admitted;
+
+        EventQueue(int capacity) {
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static final class Ticket {
+        final String id;
+        final Long eventId;
+        final Long volunteerId;
+        final EventQueue queue;
+        final long sequence;
+        volatile AdmissionTicketDTO.State state = AdmissionTicketDTO.State.QUEUED;
+        volatile Long registrationId;
+        volatile EventVolunteer.VolunteerStatus registrationStatus;
+        volatile String message;
+        volatile Instant finishedAt;
+
+        Ticket(String id, Long eventId, Long volunteerId, EventQueue queue, long sequence) {
+            this.id = id;
+            this.eventId = eventId;
+            this.volunteerId = volunteerId;
+            this.queue = queue;
+            this.sequence = sequence;
+        }
+
+        void admitted(Long registrationId, EventVolunteer.VolunteerStatus status) {
+            this.registrationId = registrationId;
+            this.registrationStatus = status;
+            finish(AdmissionTicketDTO.State.ADMITTED);
+        }
+
+        void failed(String message) {
+            this.message = message;
+            finish(AdmissionTicketDTO.State.FAILED);
+        }
+
+        private void finish(AdmissionTicketDTO.State state) {
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+    }
+}
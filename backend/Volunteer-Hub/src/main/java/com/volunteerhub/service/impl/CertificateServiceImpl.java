@@ -0,0 +1,411 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.CertificateJobDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.Notification;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.service.CertificateService;
+import com.volunteerhub.service.EmailService;
+import com.volunteerhub.service.FileStorageService;
+import com.volunteerhub.service.NotificationService;
+import com.volunteerhub.util.SimplePdf;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class CertificateServiceImpl implements CertificateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CertificateServiceImpl.class);
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.ENGLISH);
+
+    // Same rule as issueCertificate: approved or attended, with enough present days
+    private static final String ELIGIBLE_SQL = "SELECT ev.id, u.id, u.name, u.vms_id, ev.present_days, ev.total_days, "
+            + "ev.certificate_url FROM event_volunteers ev JOIN users u ON u.id = ev.volunteer_id "
+            + "WHERE ev.event_id = ? AND ev.status IN ('APPROVED', 'ATTENDED') AND ev.total_days > 0 "
+            + "AND ev.present_days * 100.0 / ev.total_days >= ? ORDER BY ev.id";
+    // Registrations withdrawn or rejected while their PDF was rendering are left alone
+    private static final String ISSUE_SQL = "UPDATE event_volunteers ev SET certificate_url = c.url, "
+            + "certificate_issued_at = ?, updated_at = ? FROM unnest(?::bigint[], ?::varchar[]) AS c(id, url) "
+            + "WHERE ev.id = c.id AND ev.status IN ('APPROVED', 'ATTENDED') RETURNING ev.id";
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final FileStorageService fileStorageService;
+    private final NotificationService notificationService;
+    private final EmailService emailService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Duration jobRetention;
+
+    // Rendering is CPU work and storage is disk work; neither belongs on request threads
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // At most one job per event, so two runs never race on the same registrations
+    private final Map<Long, Job> running = new ConcurrentHashMap<>();
+
+    public CertificateServiceImpl(EventRepository eventRepository,
+            UserRepository userRepository,
+            FileStorageService fileStorageService,
+            NotificationService notificationService,
+            EmailService emailService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${certificates.workers:4}") int workers,
+            @Value("${certificates.queue-capacity:2000}") int queueCapacity,
+            @Value("${certificates.chunk-size:50}") int chunkSize,
+            @Value("${certificates.job-retention-minutes:60}") long jobRetentionMinutes) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.fileStorageService = fileStorageService;
+        this.notificationService = notificationService;
+        this.emailService = emailService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "certificates-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public CertificateJobDTO startBatch(Long eventId, Long organizerId, boolean reissue) {
+        Event event = eventRepository.findByIdWithOrganizer(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        if (!event.getOrganizer().getId().equals(organizerId)) {
+            throw new RuntimeException("Unauthorized: Only the event organizer can issue certificates");
+        }
+        if (event.getStatus() == Event.EventStatus.CANCELLED) {
+            throw new RuntimeException("Cannot issue certificates for a cancelled event");
+        }
+        // Attendance is still being taken until the event is over
+        LocalDateTime end = event.resolveEndDateTime();
+        if (event.getStatus() != Event.EventStatus.COMPLETED
+                && (end == null || !end.isBefore(LocalDateTime.now()))) {
+            throw new RuntimeException("Certificates can only be issued once the event has ended");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), eventId);
+        Job active = running.putIfAbsent(eventId, job);
+        if (active != null) {
+            throw new RuntimeException("Certificates for this event are already being generated (job "
+                    + active.id + ")");
+        }
+
+        try {
+            List<Recipient> eligible = jdbcTemplate.query(ELIGIBLE_SQL, (rs, rowNum) -> new Recipient(
+                    rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4),
+                    rs.getInt(5), rs.getInt(6), rs.getString(7)),
+                    eventId, MIN_ATTENDANCE_PERCENT);
+            List<Recipient> pending = reissue ? eligible
+                    : eligible.stream().filter(recipient -> recipient.certificateUrl() == null).toList();
+            job.total = eligible.size();
+            job.skipped = eligible.size() - pending.size();
+
+            Template template = new Template(event);
+            List<List<Recipient>> chunks = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i += chunkSize) {
+                chunks.add(pending.subList(i, Math.min(i + chunkSize, pending.size())));
+            }
+
+            jobs.put(job.id, job);
+            if (chunks.isEmpty()) {
+                finish(job);
+                return job.toDTO();
+            }
+            job.remainingChunks.set(chunks.size());
+            // Only this method submits, so the capacity check cannot be overtaken
+            synchronized (executor) {
+                if (executor.getQueue().remainingCapacity() < chunks.size()) {
+                    jobs.remove(job.id);
+                    throw new RuntimeException("Certificate generation is busy, please try again shortly");
+                }
+                for (List<Recipient> chunk : chunks) {
+                    executor.execute(() -> runChunk(job, template, event, chunk));
+                }
+            }
+            logger.info("📜 Certificate job {} queued for event {}: {} to issue, {} already issued",
+                    job.id, eventId, pending.size(), job.skipped);
+            return job.toDTO();
+        } catch (RuntimeException e) {
+            running.remove(eventId, job);
+            throw e;
+        }
+    }
+
+    @Override
+    public CertificateJobDTO getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Certificate job not found");
+        }
+        return job.toDTO();
+    }
+
+    @Scheduled(fixedDelayString = "${certificates.job-cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("⚠️ Certificate workers did not finish before shutdown");
+        }
+    }
+
+    private void runChunk(Job job, Template template, Event event, List<Recipient> chunk) {
+        try {
+            job.status = "RUNNING";
+            LocalDateTime issuedAt = LocalDateTime.now();
+            List<Long> ids = new ArrayList<>(chunk.size());
+            List<String> urls = new ArrayList<>(chunk.size());
+            for (Recipient recipient : chunk) {
+                try {
+                    byte[] pdf = template.render(recipient, issuedAt.toLocalDate());
+                    urls.add(fileStorageService.storeCertificate(pdf, recipient.registrationId()));
+                    ids.add(recipient.registrationId());
+                } catch (Exception e) {
+                    job.fail("Registration " + recipient.registrationId() + ": " + e.getMessage(), 1);
+                }
+            }
+            if (!ids.isEmpty()) {
+                issue(job, event, chunk, ids, urls, issuedAt);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Certificate job {} chunk failed: {}", job.id, e.getMessage());
+            job.fail(e.getMessage(), 0);
+        } finally {
+            if (job.remainingChunks.decrementAndGet() == 0) {
+                finish(job);
+            }
+        }
+    }
+
+    // One UPDATE per chunk, then one notification insert and one email hand-off
+    private void issue(Job job, Event event, List<Recipient> chunk, List<Long> ids, List<String> urls,
+            LocalDateTime issuedAt) {
+        Set<Long> updated = new HashSet<>();
+        try {
+            Timestamp now = Timestamp.valueOf(issuedAt);
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(ISSUE_SQL);
+                ps.setTimestamp(1, now);
+                ps.setTimestamp(2, now);
+                ps.setArray(3, con.createArrayOf("bigint", ids.toArray()));
+                ps.setArray(4, con.createArrayOf("varchar", urls.toArray()));
+                return ps;
+            }, rs -> {
+                updated.add(rs.getLong(1));
+            });
+        } catch (Exception e) {
+            job.fail("Saving certificates failed: " + e.getMessage(), ids.size());
+            urls.forEach(this::deleteQuietly);
+            return;
+        }
+
+        Map<Long, Recipient> byId = new HashMap<>();
+        chunk.forEach(recipient -> byId.put(recipient.registrationId(), recipient));
+        List<Long> volunteerIds = new ArrayList<>(updated.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Recipient recipient = byId.get(ids.get(i));
+            if (!updated.contains(ids.get(i))) {
+                deleteQuietly(urls.get(i));
+                job.skippedLate.incrementAndGet();
+                continue;
+            }
+            volunteerIds.add(recipient.volunteerId());
+            // A reissue supersedes the previous file, which would otherwise be orphaned on disk
+            if (recipient.certificateUrl() != null && !recipient.certificateUrl().equals(urls.get(i))) {
+                deleteQuietly(recipient.certificateUrl());
+            }
+        }
+        job.issued.addAndGet(volunteerIds.size());
+        if (volunteerIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Notification> notifications = new ArrayList<>(volunteerIds.size());
+            for (Long volunteerId : volunteerIds) {
+                notifications.add(Notification.builder()
+                        .user(userRepository.getReferenceById(volunteerId))
+                        .title("Certificate Earned")
+                        .message("A certificate has been issued for '" + event.getTitle() + "'.")
+                        .type(Notification.NotificationType.SUCCESS)
+                        .build());
+            }
+            notificationService.createNotifications(notifications);
+            List<User> volunteers = userRepository.findAllById(volunteerIds);
+            emailService.sendCertificationIssuedEmails(volunteers, event);
+        } catch (Exception e) {
+            logger.warn("⚠️ Certificate job {} could not notify {} volunteers: {}",
+                    job.id, volunteerIds.size(), e.getMessage());
+        }
+    }
+
+    private void finish(Job job) {
+        job.finishedNanos = System.nanoTime();
+        job.finishedAt = LocalDateTime.now();
+        job.status = job.issued.get() == 0 && job.failed.get() > 0 ? "FAILED" : "COMPLETED";
+        running.remove(job.eventId, job);
+        logger.info("📜 Certificate job {} for event {} {}: {} issued, {} skipped, {} failed in {} ms",
+                job.id, job.eventId, job.status.toLowerCase(Locale.ROOT), job.issued.get(),
+                job.skipped + job.skippedLate.get(), job.failed.get(), job.elapsedMs());
+    }
+
+    private void deleteQuietly(String url) {
+        if (url == null || !url.startsWith("certificates/")) {
+            return;
+        }
+        try {
+            fileStorageService.deleteFile(url);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not delete certificate file {}: {}", url, e.getMessage());
+        }
+    }
+
+    private record Recipient(Long registrationId, Long volunteerId, String name, String vmsId,
+            int presentDays, int totalDays, String certificateUrl) {
+    }
+
+    // Everything about the event is resolved once per job, not once per PDF
+    private static final class Template {
+        private static final float MAX_LINE_WIDTH = SimplePdf.PAGE_WIDTH - 160;
+
+        private final Long eventId;
+        private final String title;
+        private final String dates;
+        private final String place;
+        private final String organizer;
+
+        private Template(Event event) {
+            this.eventId = event.getId();
+            this.title = event.getTitle() != null ? event.getTitle() : "";
+            LocalDateTime end = event.resolveEndDateTime();
+            LocalDate first = event.getDateTime() != null ? event.getDateTime().toLocalDate() : null;
+            LocalDate last = end != null ? end.toLocalDate() : first;
+            this.dates = first == null ? ""
+                    : first.equals(last) ? "held on " + DATE_FORMAT.format(first)
+                    : "held from " + DATE_FORMAT.format(first) + " to " + DATE_FORMAT.format(last);
+            String location = event.getLocationName() != null ? event.getLocationName() : "";
+            if (event.getCity() != null && !event.getCity().isBlank()) {
+                location = location.isBlank() ? event.getCity() : location + ", " + event.getCity();
+            }
+            this.place = location.isBlank() ? "" : "at " + location;
+            this.organizer = event.getOrganizer().getName() != null ? event.getOrganizer().getName() : "";
+        }
+
+        private byte[] render(Recipient recipient, LocalDate issuedOn) {
+            SimplePdf pdf = new SimplePdf()
+                    .rectangle(24, 24, SimplePdf.PAGE_WIDTH - 48, SimplePdf.PAGE_HEIGHT - 48, 3)
+                    .rectangle(34, 34, SimplePdf.PAGE_WIDTH - 68, SimplePdf.PAGE_HEIGHT - 68, 1)
+                    .centered("CERTIFICATE OF ACHIEVEMENT", 480, 34, true, MAX_LINE_WIDTH)
+                    .centered("This certificate is proudly presented to", 425, 16, false, MAX_LINE_WIDTH)
+                    .centered(recipient.name() != null ? recipient.name() : "", 375, 32, true, MAX_LINE_WIDTH)
+                    .centered("in recognition of volunteering with", 335, 16, false, MAX_LINE_WIDTH)
+                    .centered(title, 298, 24, true, MAX_LINE_WIDTH)
+                    .centered((dates + " " + place).trim(), 265, 14, false, MAX_LINE_WIDTH)
+                    .centered("Attended " + recipient.presentDays() + " of " + recipient.totalDays()
+                            + (recipient.totalDays() == 1 ? " day" : " days"), 232, 14, false, MAX_LINE_WIDTH);
+            if (!organizer.isBlank()) {
+                pdf.centered("Organized by " + organizer, 180, 14, false, MAX_LINE_WIDTH);
+            }
+            pdf.text("VMS ID: " + (recipient.vmsId() != null ? recipient.vmsId() : "-"), 70, 80, 11, false)
+                    .text("Certificate No. VH-" + eventId + "-" + recipient.registrationId(), 70, 64, 11, false);
+            String issued = "Issued on " + DATE_FORMAT.format(issuedOn);
+            pdf.text(issued, SimplePdf.PAGE_WIDTH - 70 - SimplePdf.width(issued, 11, false), 64, 11, false);
+            return pdf.toBytes();
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Long eventId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicInteger remainingChunks = new AtomicInteger();
+        private final AtomicInteger issued = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        // Eligible when the job started but no longer by the time their chunk was saved
+        private final AtomicInteger skippedLate = new AtomicInteger();
+        private final List<String> errors = new ArrayList<>();
+        private volatile String status = "QUEUED";
+        private volatile int total;
+        private volatile int skipped;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private Job(String id, Long eventId) {
+            this.id = id;
+            this.eventId = eventId;
+        }
+
+        private void fail(String message, int count) {
+            failed.addAndGet(count);
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(message);
+                }
+            }
+        }
+
+        private long elapsedMs() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000;
+        }
+
+        private CertificateJobDTO toDTO() {
+            List<String> snapshot;
+            synchronized (errors) {
+                snapshot = List.copyOf(errors);
+            }
+            return CertificateJobDTO.builder()
+                    .jobId(id)
+                    .eventId(eventId)
+                    .status(status)
+                    .total(total)
+                    .issued(issued.get())
+                    .skipped(skipped + skippedLate.get())
+                    .failed(failed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .elapsedMs(elapsedMs())
+                    .errors(snapshot)
+                    .build();
+        }
+    }
+}
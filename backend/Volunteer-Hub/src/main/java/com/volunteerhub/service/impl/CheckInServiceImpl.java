@@ -0,0 +1,387 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.CheckInScanRequest;
+import com.volunteerhub.dto.CheckInScanResultDTO;
+import com.volunteerhub.dto.CheckInTokenDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
+import com.volunteerhub.repository.AttendanceRepository;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.repository.EventVolunteerRepository;
+import com.volunteerhub.service.CheckInService;
+import com.volunteerhub.service.EventVolunteerService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Service
+public class CheckInServiceImpl implements CheckInService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckInServiceImpl.class);
+    private static final String TOKEN_VERSION = "v1";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final EventRepository eventRepository;
+    private final EventVolunteerRepository eventVolunteerRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final EventVolunteerService eventVolunteerService;
+    private final Duration validBefore;
+    private final Duration validAfter;
+    private final int batchSize;
+    private final long rosterRefreshNanos;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // Mac instances are not thread-safe, and scans arrive on many request threads
+    private final ThreadLocal<Mac> mac;
+    private final BlockingQueue<PendingCheckIn> pending;
+    private final Map<GateKey, Gate> gates = new ConcurrentHashMap<>();
+
+    public CheckInServiceImpl(EventRepository eventRepository,
+            EventVolunteerRepository eventVolunteerRepository,
+            AttendanceRepository attendanceRepository,
+            EventVolunteerService eventVolunteerService,
+            @Value("${checkin.token-secret:}") String tokenSecret,
+            @Value("${checkin.valid-before-minutes:120}") long validBeforeMinutes,
+            @Value("${checkin.valid-after-minutes:120}") long validAfterMinutes,
+            @Value("${checkin.queue-capacity:50000}") int queueCapacity,
+            @Value("${checkin.batch-size:500}") int batchSize,
+            @Value("${checkin.roster-refresh-seconds:30}") long rosterRefreshSeconds) {
+        this.eventRepository = eventRepository;
+        this.eventVolunteerRepository = eventVolunteerRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.eventVolunteerService = eventVolunteerService;
+        this.validBefore = Duration.ofMinutes(validBeforeMinutes);
+        this.validAfter = Duration.ofMinutes(validAfterMinutes);
+        this.batchSize = batchSize;
+        this.rosterRefreshNanos = TimeUnit.SECONDS.toNanos(rosterRefreshSeconds);
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+
+        byte[] key;
+        if (tokenSecret == null || tokenSecret.isBlank()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            logger.warn("⚠️ checkin.token-secret is not set; check-in passes will not survive a restart "
+                    + "or validate on other nodes");
+        } else {
+            key = tokenSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (Exception e) {
+                throw new IllegalStateException("HMAC unavailable", e);
+            }
+        });
+    }
+
+    @Override
+    public CheckInTokenDTO issueToken(Long registrationId, Long volunteerId) {
+        // Fetch the event with the registration; this runs outside any transaction
+        EventVolunteer ev = eventVolunteerRepository.findWithEventAndVolunteerByIdIn(List.of(registrationId))
+                .stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Volunteer request not found"));
+        if (!ev.getVolunteer().getId().equals(volunteerId)) {
+            throw new RuntimeException("Unauthorized: You can only get a pass for your own registration");
+        }
+        if (ev.getStatus() != EventVolunteer.VolunteerStatus.APPROVED
+                && ev.getStatus() != EventVolunteer.VolunteerStatus.ATTENDED) {
+            throw new RuntimeException("Check-in passes are only issued for approved registrations");
+        }
+        Event event = ev.getEvent();
+        if (event.getDateTime() == null) {
+            throw new RuntimeException("Event has no schedule yet");
+        }
+
+        LocalDateTime validFrom = event.getDateTime().minus(validBefore);
+        LocalDateTime validUntil = event.resolveEndDateTime().plus(validAfter);
+        String payload = String.join(".", TOKEN_VERSION, event.getId().toString(), registrationId.toString(),
+                Long.toString(toEpochSecond(validFrom)), Long.toString(toEpochSecond(validUntil)));
+        return CheckInTokenDTO.builder()
+                .token(payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload)))
+                .eventId(event.getId())
+                .registrationId(registrationId)
+                .validFrom(validFrom)
+                .validUntil(validUntil)
+                .build();
+    }
+
+    @Override
+    public CheckInScanResultDTO scan(CheckInScanRequest request) {
+        if (request.getToken() == null || request.getOrganizerId() == null) {
+            throw new RuntimeException("token and organizerId are required");
+        }
+        Claims claims = verify(request.getToken().trim());
+        LocalDate today = LocalDate.now();
+        GateKey key = new GateKey(claims.eventId(), today);
+
+        Gate gate = gates.computeIfAbsent(key, this::loadGate);
+        if (!gate.organizerId.equals(request.getOrganizerId())) {
+            throw new RuntimeException("Unauthorized: Only the event organizer can check volunteers in");
+        }
+        int slot = gate.indexOf(claims.registrationId());
+        if (slot < 0 && System.nanoTime() - gate.loadedAt > rosterRefreshNanos) {
+            // Approved after this gate was built; reload the roster at most once per refresh interval
+            gate = reloadGate(key, gate);
+            slot = gate.indexOf(claims.registrationId());
+        }
+        if (slot < 0) {
+            throw new RuntimeException("Registration is not on this event's approved roster");
+        }
+
+        CheckInScanResultDTO.Status status = CheckInScanResultDTO.Status.ALREADY_CHECKED_IN;
+        if (gate.markSeen(slot)) {
+            if (!pending.offer(new PendingCheckIn(claims.eventId(), today, claims.registrationId(),
+                    gate.volunteerIds[slot]))) {
+                gate.clear(slot);
+                throw new RuntimeException("Check-in is busy, please scan again");
+            }
+            status = CheckInScanResultDTO.Status.CHECKED_IN;
+        }
+        logger.debug("🎫 Scan on {} for registration {}: {}", request.getDeviceId(), claims.registrationId(), status);
+        return CheckInScanResultDTO.builder()
+                .status(status)
+                .eventId(claims.eventId())
+                .registrationId(claims.registrationId())
+                .volunteerId(gate.volunteerIds[slot])
+                .volunteerName(gate.volunteerNames[slot])
+                .date(today)
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${checkin.flush-interval-ms:200}")
+    public void flush() {
+        List<PendingCheckIn> batch = new ArrayList<>(batchSize);
+        do {
+            batch.clear();
+            pending.drainTo(batch, batchSize);
+            Map<LocalDate, Map<Long, Long>> byDate = new LinkedHashMap<>();
+            for (PendingCheckIn checkIn : batch) {
+                byDate.computeIfAbsent(checkIn.date(), d -> new LinkedHashMap<>())
+                        .put(checkIn.registrationId(), checkIn.volunteerId());
+            }
+            byDate.forEach((date, volunteerByRegistration) -> {
+                try {
+                    EventVolunteerService.CheckInWrite written = eventVolunteerService.recordCheckIns(date,
+                            volunteerByRegistration);
+                    logger.info("🎫 Wrote {} check-ins for {} ({} new)",
+                            volunteerByRegistration.size() - written.dropped().size(), date, written.created());
+                    if (!written.dropped().isEmpty()) {
+                        // Left the roster between scan and flush: clear their bits and reload the roster
+                        logger.warn("⚠️ Dropped {} check-in(s) for {} no longer approved: {}",
+                                written.dropped().size(), date, written.dropped());
+                        Set<Long> dropped = new HashSet<>(written.dropped());
+                        Set<GateKey> staleGates = new HashSet<>();
+                        for (PendingCheckIn checkIn : batch) {
+                            if (checkIn.date().equals(date) && dropped.contains(checkIn.registrationId())) {
+                                forget(checkIn);
+                                staleGates.add(new GateKey(checkIn.eventId(), date));
+                            }
+                        }
+                        staleGates.forEach(this::reloadRoster);
+                    }
+                } catch (Exception e) {
+                    logger.error("❌ Failed to write {} check-ins: {}", volunteerByRegistration.size(), e.getMessage());
+                    // Let the volunteers scan again instead of being stuck as "already checked in"
+                    batch.stream().filter(checkIn -> checkIn.date().equals(date)).forEach(this::forget);
+                }
+            });
+        } while (batch.size() == batchSize);
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    // Gates for past days are no longer scanned
+    @Scheduled(fixedDelayString = "${checkin.gate-cleanup-interval-ms:3600000}")
+    public void evictPastGates() {
+        LocalDate today = LocalDate.now();
+        gates.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    private void forget(PendingCheckIn checkIn) {
+        Gate gate = gates.get(new GateKey(checkIn.eventId(), checkIn.date()));
+        if (gate != null) {
+            int slot = gate.indexOf(checkIn.registrationId());
+            if (slot >= 0) {
+                gate.clear(slot);
+            }
+        }
+    }
+
+    // A rescan of a registration that left the roster is then refused instead of re-queued
+    private void reloadRoster(GateKey key) {
+        Gate stale = gates.get(key);
+        if (stale != null) {
+            try {
+                reloadGate(key, stale);
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not reload the roster for event {}: {}", key.eventId(), e.getMessage());
+            }
+        }
+    }
+
+    private Gate loadGate(GateKey key) {
+        Long organizerId = eventRepository.findOrganizerIdById(key.eventId())
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        // Seed with rows already PRESENT today so a restart or a roll call still dedupes
+        Set<Long> present = new HashSet<>(attendanceRepository.findPresentRegistrationIds(key.eventId(), key.date()));
+        return new Gate(organizerId, eventVolunteerRepository.findCheckInRoster(key.eventId()), present);
+    }
+
+    private Gate reloadGate(GateKey key, Gate stale) {
+        Gate fresh = loadGate(key);
+        stale.seenIds().forEach(id -> {
+            int slot = fresh.indexOf(id);
+            if (slot >= 0) {
+                fresh.markSeen(slot);
+            }
+        });
+        return gates.replace(key, stale, fresh) ? fresh : gates.getOrDefault(key, fresh);
+    }
+
+    private Claims verify(String token) {
+        int cut = token.lastIndexOf('.');
+        if (cut <= 0) {
+            throw new RuntimeException("Invalid check-in pass");
+        }
+        String payload = token.substring(0, cut);
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(cut + 1));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid check-in pass");
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            throw new RuntimeException("Invalid check-in pass");
+        }
+
+        String[] parts = payload.split("\\.");
+        if (parts.length != 5 || !TOKEN_VERSION.equals(parts[0])) {
+            throw new RuntimeException("Invalid check-in pass");
+        }
+        long now = Instant.now().getEpochSecond();
+        if (now < Long.parseLong(parts[3])) {
+            throw new RuntimeException("Check-in pass is not valid yet");
+        }
+        if (now > Long.parseLong(parts[4])) {
+            throw new RuntimeException("Check-in pass has expired");
+        }
+        return new Claims(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    private byte[] sign(String payload) {
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toEpochSecond();
+    }
+
+    private record Claims(Long eventId, Long registrationId) {
+    }
+
+    private record GateKey(Long eventId, LocalDate date) {
+    }
+
+    private record PendingCheckIn(Long eventId, LocalDate date, Long registrationId, Long volunteerId) {
+    }
+
+    /**
+     * One event's roster for one day. Registration ids are sorted so a binary search
+     * gives each a dense slot in the {@code seen} bitmap.
+     */
+    private static final class Gate {
+
+        final Long organizerId;
+        final long[] registrationIds;
+        final Long[] volunteerIds;
+        final String[] volunteerNames;
+        final AtomicLongArray seen;
+        final long loadedAt = System.nanoTime();
+
+        Gate(Long organizerId, List<Object[]> roster, Set<Long> present) {
+            this.organizerId = organizerId;
+            int size = roster.size();
+            this.registrationIds = new long[size];
+            this.volunteerIds = new Long[size];
+            this.volunteerNames = new String[size];
+            this.seen = new AtomicLongArray(Math.max(1, (size + 63) >>> 6));
+            for (int i = 0; i < size; i++) {
+                Object[] row = roster.get(i);
+                registrationIds[i] = (Long) row[0];
+                volunteerIds[i] = (Long) row[1];
+                volunteerNames[i] = (String) row[2];
+                if (present.contains(registrationIds[i])) {
+                    markSeen(i);
+                }
+            }
+        }
+
+        int indexOf(long registrationId) {
+            int slot = Arrays.binarySearch(registrationIds, registrationId);
+            return slot >= 0 ? slot : -1;
+        }
+
+        // True only for the first caller to mark the slot
+        boolean markSeen(int slot) {
+            long bit = 1L << (slot & 63);
+            int word = slot >>> 6;
+            long current;
+            do {
+                current = seen.get(word);
+                if ((current & bit) != 0) {
+                    return false;
+                }
+            } while (!seen.compareAndSet(word, current, current | bit));
+            return true;
+        }
+
+        void clear(int slot) {
+            long bit = 1L << (slot & 63);
+            seen.getAndUpdate(slot >>> 6, current -> current & ~bit);
+        }
+
+        List<Long> seenIds() {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < registrationIds.length; i++) {
+                if ((seen.get(i >>> 6) & (1L << (i & 63))) != 0) {
+                    ids.add(registrationIds[i]);
+                }
+            }
+            return ids;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.volunteerhub.service.impl;
 
 import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.User;
 import com.volunteerhub.model.SupportTicket;
 import com.volunteerhub.service.EmailService;
@@ -8,8 +9,11 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
@@ -328,4 +332,28 @@ public class EmailServiceImpl implements EmailService {
                 sendEmail(user.getEmail(), subject,
                                 wrapWithFormalTemplate("Support Assistance Complete", content, user.getVmsId()));
         }
+
+        @Override
+        @Async
+        public void sendEventJoinRequestEmails(List<EventVolunteer> registrations) {
+                for (EventVolunteer registration : registrations) {
+                        sendEventJoinRequestEmail(registration.getVolunteer(), registration.getEvent());
+                }
+        }
+
+        @Override
+        @Async
+        public void sendEventJoinRejectedEmails(List<EventVolunteer> registrations, String reason) {
+                for (EventVolunteer registration : registrations) {
+                        sendEventJoinRejectedEmail(registration.getVolunteer(), registration.getEvent(), reason);
+                }
+        }
+
+        @Override
+        @Async
+        public void sendCertificationIssuedEmails(List<User> volunteers, Event event) {
+                for (User volunteer : volunteers) {
+                        sendCertificationIssuedEmail(volunteer, event);
+                }
+        }
 }
@@ -0,0 +1,169 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.CacheStatsDTO;
+import com.volunteerhub.dto.EventDetailsDTO;
+import com.volunteerhub.service.EventCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+@Service
+public class EventCacheServiceImpl implements EventCacheService {
+
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<Long, CacheEntry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentBytes;
+
+    // Bumped on every invalidation; a load that overlaps one is returned but not cached
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public EventCacheServiceImpl(
+            @Value("${events.cache.max-bytes:16777216}") long maxBytes,
+            @Value("${events.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    @Override
+    public EventDetailsDTO get(Long eventId, Function<Long, EventDetailsDTO> loader) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(eventId);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits.increment();
+                    return entry.value;
+                }
+                remove(eventId);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        long sequence = invalidationSequence.get();
+        EventDetailsDTO loaded = loader.apply(eventId);
+        if (loaded == null) {
+            return null;
+        }
+
+        long weight = loaded.estimatedSize();
+        if (weight > maxBytes) {
+            return loaded;
+        }
+        lock.lock();
+        try {
+            if (sequence != invalidationSequence.get()) {
+                return loaded;
+            }
+            remove(eventId);
+            entries.put(eventId, new CacheEntry(loaded, weight, System.currentTimeMillis() + ttlMillis));
+            currentBytes += weight;
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    @Override
+    public void invalidate(Long eventId) {
+        if (eventId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            invalidationSequence.incrementAndGet();
+            if (remove(eventId)) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidationSequence.incrementAndGet();
+            invalidations.add(entries.size());
+            entries.clear();
+            currentBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStatsDTO getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        lock.lock();
+        try {
+            return CacheStatsDTO.builder()
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .hitRate(hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount))
+                    .evictions(evictions.sum())
+                    .invalidations(invalidations.sum())
+                    .entries(entries.size())
+                    .estimatedBytes(currentBytes)
+                    .maxBytes(maxBytes)
+                    .ttlSeconds(ttlMillis / 1000)
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller must hold the lock
+    private boolean remove(Long eventId) {
+        CacheEntry removed = entries.remove(eventId);
+        if (removed != null) {
+            currentBytes -= removed.weight;
+            return true;
+        }
+        return false;
+    }
+
+    // Caller must hold the lock
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, CacheEntry>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next().getValue();
+            iterator.remove();
+            currentBytes -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    private static class CacheEntry {
+        private final EventDetailsDTO value;
+        private final long weight;
+        private final long expiresAt;
+
+        CacheEntry(EventDetailsDTO value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.EventFacetsDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.service.EventFacetService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@RequiredArgsConstructor
+public class EventFacetServiceImpl implements EventFacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventFacetServiceImpl.class);
+    private static final String UNSPECIFIED = "Unspecified";
+
+    private final EventRepository eventRepository;
+
+    // Replaced wholesale on reconcile; incremental updates land on whichever index is current
+    private volatile FacetIndex index = new FacetIndex();
+
+    @Override
+    public void recordChange(FacetKey before, FacetKey after) {
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        FacetIndex current = index;
+        if (before != null) {
+            current.add(before, -1);
+        }
+        if (after != null) {
+            current.add(after, 1);
+        }
+    }
+
+    @Override
+    public EventFacetsDTO getFacets(Event.EventStatus status) {
+        Event.EventStatus effectiveStatus = status != null ? status : Event.EventStatus.PUBLISHED;
+        FacetIndex current = index;
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (Event.EventStatus s : Event.EventStatus.values()) {
+            LongAdder adder = current.statusCounts.get(s);
+            statusCounts.put(s.name(), adder != null ? adder.sum() : 0L);
+        }
+
+        StatusFacets facets = current.byStatus.get(effectiveStatus);
+        if (facets == null) {
+            facets = new StatusFacets();
+        }
+        return new EventFacetsDTO(effectiveStatus.name(), statusCounts,
+                sorted(facets.category), sorted(facets.city), sorted(facets.area), sorted(facets.dateBucket));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.facets.reconcile-interval-ms:300000}", initialDelayString = "${events.facets.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            FacetIndex rebuilt = new FacetIndex();
+            for (Object[] row : eventRepository.countFacetCombinations()) {
+                Event.EventStatus status = (Event.EventStatus) row[0];
+                String dateBucket = row[4] != null && row[5] != null
+                        ? YearMonth.of(((Number) row[4]).intValue(), ((Number) row[5]).intValue()).toString()
+                        : null;
+                FacetKey key = new FacetKey(status, (String) row[1], (String) row[2], (String) row[3], dateBucket);
+                rebuilt.add(key, ((Number) row[6]).longValue());
+            }
+            index = rebuilt;
+        } catch (Exception e) {
+            logger.error("❌ Event facet reconciliation failed: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Long> sorted(ConcurrentHashMap<String, LongAdder> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private static class FacetIndex {
+        private final Map<Event.EventStatus, LongAdder> statusCounts = new EnumMap<>(Event.EventStatus.class);
+        private final Map<Event.EventStatus, StatusFacets> byStatus = new EnumMap<>(Event.EventStatus.class);
+
+        FacetIndex() {
+            for (Event.EventStatus status : Event.EventStatus.values()) {
+                statusCounts.put(status, new LongAdder());
+                byStatus.put(status, new StatusFacets());
+            }
+        }
+
+        void add(FacetKey key, long delta) {
+            if (key.getStatus() == null) {
+                return;
+            }
+            statusCounts.get(key.getStatus()).add(delta);
+            StatusFacets facets = byStatus.get(key.getStatus());
+            increment(facets.category, key.getCategory(), delta);
+            increment(facets.city, key.getCity(), delta);
+            increment(facets.area, key.getArea(), delta);
+            increment(facets.dateBucket, key.getDateBucket(), delta);
+        }
+
+        private void increment(ConcurrentHashMap<String, LongAdder> counts, String value, long delta) {
+            String bucket = value == null || value.isBlank() ? UNSPECIFIED : value.trim();
+            counts.computeIfAbsent(bucket, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static class StatusFacets {
+        private final ConcurrentHashMap<String, LongAdder> category = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, LongAdder> city = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, LongAdder> area = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, LongAdder> dateBucket = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,367 @@
+package com.volunteerhub.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerhub.dto.EventImportResultDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.Notification;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.service.EventFacetService;
+import com.volunteerhub.service.EventImportService;
+import com.volunteerhub.service.NotificationService;
+import com.volunteerhub.util.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+@Service
+public class EventImportServiceImpl implements EventImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventImportServiceImpl.class);
+    private static final int MAX_REPORTED_ERRORS = 200;
+
+    private static final String INSERT_SQL = "INSERT INTO events (title, category, description, date_time, end_date, "
+            + "start_time, end_time, end_date_time, location_name, address, city, area, map_link, "
+            + "registration_open_date_time, registration_close_date_time, required_volunteers, current_volunteers, "
+            + "skills_required, min_age, gender_preference, status, registration_state, organizer_id, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationService notificationService;
+    private final EventFacetService eventFacetService;
+    private final int batchSize;
+    private final int maxRows;
+
+    public EventImportServiceImpl(UserRepository userRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            NotificationService notificationService, EventFacetService eventFacetService,
+            @Value("${events.import.batch-size:500}") int batchSize,
+            @Value("${events.import.max-rows:10000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.notificationService = notificationService;
+        this.eventFacetService = eventFacetService;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public EventImportResultDTO importEvents(InputStream input, Format format, Long userId) throws IOException {
+        long started = System.nanoTime();
+        User organizer = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("Organizer not found with ID: " + userId));
+
+        ImportRun run = new ImportRun();
+        List<Event> batch = new ArrayList<>(batchSize);
+        List<Integer> batchRows = new ArrayList<>(batchSize);
+
+        try (RowSource source = format == Format.JSON ? new JsonRowSource(input) : new CsvRowSource(input)) {
+            while (true) {
+                Map<String, String> row;
+                try {
+                    row = source.next();
+                } catch (IOException e) {
+                    run.error(run.total + 1, "Malformed input, import stopped: " + e.getMessage());
+                    break;
+                }
+                if (row == null) {
+                    break;
+                }
+                run.total++;
+                if (run.total > maxRows) {
+                    run.total--;
+                    run.error(run.total + 1, "Row limit of " + maxRows + " reached, remaining rows were not read");
+                    break;
+                }
+                try {
+                    batch.add(toEvent(row, organizer));
+                    batchRows.add(run.total);
+                } catch (RuntimeException e) {
+                    run.error(run.total, e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, batchRows, run);
+                }
+            }
+            flush(batch, batchRows, run);
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        double rowsPerSecond = run.total == 0 ? 0 : run.total * 1000.0 / Math.max(elapsedMs, 1);
+        logger.info("📦 Bulk import for organizer {}: {} rows, {} imported, {} failed in {} ms ({} rows/s)",
+                userId, run.total, run.imported, run.failed, elapsedMs, Math.round(rowsPerSecond));
+
+        if (run.imported > 0) {
+            eventFacetService.reconcile();
+            notificationService.notifyAdmins(
+                    "New Events Pending Approval",
+                    run.imported + " events were bulk-imported by " + organizer.getName() + " and are pending approval.",
+                    Notification.NotificationType.INFO);
+        }
+        notificationService.createNotification(
+                organizer,
+                "Bulk Import Completed",
+                "Imported " + run.imported + " of " + run.total + " events"
+                        + (run.failed > 0 ? " (" + run.failed + " rows rejected)" : "") + ". Imported events are pending approval.",
+                run.failed > 0 ? Notification.NotificationType.WARNING : Notification.NotificationType.SUCCESS);
+
+        return EventImportResultDTO.builder()
+                .totalRows(run.total)
+                .importedCount(run.imported)
+                .failedCount(run.failed)
+                .errors(run.errors)
+                .errorsTruncated(run.failed > run.errors.size())
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(Math.round(rowsPerSecond * 10) / 10.0)
+                .build();
+    }
+
+    // Each batch commits on its own so one bad batch does not undo earlier ones
+    private void flush(List<Event> batch, List<Integer> batchRows, ImportRun run) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                    (ps, event) -> {
+                        ps.setString(1, event.getTitle());
+                        ps.setString(2, event.getCategory());
+                        ps.setString(3, event.getDescription());
+                        ps.setTimestamp(4, Timestamp.valueOf(event.getDateTime()));
+                        ps.setObject(5, event.getEndDate(), Types.DATE);
+                        ps.setObject(6, event.getStartTime(), Types.TIME);
+                        ps.setObject(7, event.getEndTime(), Types.TIME);
+                        ps.setTimestamp(8, Timestamp.valueOf(event.getEndDateTime()));
+                        ps.setString(9, event.getLocationName());
+                        ps.setString(10, event.getAddress());
+                        ps.setString(11, event.getCity());
+                        ps.setString(12, event.getArea());
+                        ps.setString(13, event.getMapLink());
+                        ps.setTimestamp(14, Timestamp.valueOf(event.getRegistrationOpenDateTime()));
+                        ps.setTimestamp(15, event.getRegistrationCloseDateTime() != null
+                                ? Timestamp.valueOf(event.getRegistrationCloseDateTime()) : null);
+                        ps.setObject(16, event.getRequiredVolunteers(), Types.INTEGER);
+                        ps.setInt(17, 0);
+                        ps.setString(18, event.getSkillsRequired());
+                        ps.setObject(19, event.getMinAge(), Types.INTEGER);
+                        ps.setString(20, event.getGenderPreference());
+                        ps.setString(21, Event.EventStatus.PENDING_APPROVAL.name());
+                        // Not bookable until approved; publishing recomputes it
+                        ps.setString(22, Event.RegistrationState.UPCOMING.name());
+                        ps.setLong(23, event.getOrganizer().getId());
+                        ps.setTimestamp(24, Timestamp.valueOf(now));
+                    }));
+            run.imported += batch.size();
+        } catch (DataAccessException e) {
+            String reason = "Batch insert failed: " + e.getMostSpecificCause().getMessage();
+            logger.error("❌ {}", reason);
+            batchRows.forEach(row -> run.error(row, reason));
+        }
+        batch.clear();
+        batchRows.clear();
+    }
+
+    // Same field names and rules as POST /api/events
+    private Event toEvent(Map<String, String> row, User organizer) {
+        Event event = new Event();
+        event.setOrganizer(organizer);
+        event.setStatus(Event.EventStatus.PENDING_APPROVAL);
+        event.setCurrentVolunteers(0);
+        event.setTitle(required(row, "title"));
+        event.setCategory(required(row, "category"));
+        event.setDescription(optional(row, "description"));
+        event.setLocationName(optional(row, "locationName"));
+        event.setAddress(optional(row, "address"));
+        event.setCity(optional(row, "city"));
+        event.setArea(optional(row, "area"));
+        event.setMapLink(optional(row, "mapLink"));
+        event.setSkillsRequired(optional(row, "skillsRequired"));
+        event.setGenderPreference(optional(row, "genderPreference"));
+        event.setMinAge(parse(row, "minAge", Integer::valueOf));
+        event.setRequiredVolunteers(parse(row, "requiredVolunteers", Integer::valueOf));
+
+        LocalDate startDate = parse(row, "startDate", LocalDate::parse);
+        if (startDate == null) {
+            throw new RuntimeException("startDate is required");
+        }
+        LocalTime startTime = parse(row, "startTime", LocalTime::parse);
+        event.setStartDate(startDate);
+        event.setStartTime(startTime);
+        event.setDateTime(startTime != null ? LocalDateTime.of(startDate, startTime) : startDate.atStartOfDay());
+        event.setEndDate(parse(row, "endDate", LocalDate::parse));
+        event.setEndTime(parse(row, "endTime", LocalTime::parse));
+        event.setRegistrationOpenDateTime(parse(row, "registrationOpenDateTime", EventImportServiceImpl::parseDateTime));
+        event.setRegistrationCloseDateTime(parse(row, "registrationCloseDateTime", EventImportServiceImpl::parseDateTime));
+
+        if (event.getRequiredVolunteers() != null
+                && (event.getRequiredVolunteers() < 1 || event.getRequiredVolunteers() > 100)) {
+            throw new RuntimeException("requiredVolunteers must be between 1 and 100");
+        }
+        if (event.getEndDate() != null && event.getEndDate().isBefore(startDate)) {
+            throw new RuntimeException("endDate must not be before startDate");
+        }
+        EventServiceImpl.validateRegistrationDates(event);
+
+        if (event.getRegistrationOpenDateTime() == null) {
+            event.setRegistrationOpenDateTime(LocalDateTime.now());
+        }
+        event.setEndDateTime(event.resolveEndDateTime());
+        return event;
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return LocalDateTime.parse(value.length() > 19 ? value.substring(0, 19) : value);
+    }
+
+    private static String optional(Map<String, String> row, String field) {
+        String value = row.get(field);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String required(Map<String, String> row, String field) {
+        String value = optional(row, field);
+        if (value == null) {
+            throw new RuntimeException(field + " is required");
+        }
+        return value;
+    }
+
+    private static <T> T parse(Map<String, String> row, String field, Function<String, T> parser) {
+        String value = optional(row, field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid " + field + ": '" + value + "'");
+        }
+    }
+
+    private static class ImportRun {
+        int total;
+        int imported;
+        int failed;
+        final List<EventImportResultDTO.RowError> errors = new ArrayList<>();
+
+        void error(int row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new EventImportResultDTO.RowError(row, message));
+            }
+        }
+    }
+
+    private interface RowSource extends AutoCloseable {
+        Map<String, String> next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static class CsvRowSource implements RowSource {
+        private final BufferedReader reader;
+        private final CsvReader csv;
+        private List<String> header;
+
+        CsvRowSource(InputStream input) {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            this.csv = new CsvReader(reader);
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (header == null) {
+                header = csv.readRecord();
+                if (header == null) {
+                    return null;
+                }
+                header = header.stream().map(String::trim).toList();
+            }
+            List<String> record = csv.readRecord();
+            while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+                record = csv.readRecord();
+            }
+            if (record == null) {
+                return null;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                row.put(header.get(i), record.get(i));
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private class JsonRowSource implements RowSource {
+        private final JsonParser parser;
+
+        JsonRowSource(InputStream input) throws IOException {
+            this.parser = objectMapper.getFactory().createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new RuntimeException("JSON import must be an array of event objects");
+            }
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected an event object but found " + token.name().toLowerCase(Locale.ROOT));
+            }
+            JsonNode node = parser.readValueAsTree();
+            Map<String, String> row = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                row.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText());
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -1,25 +1,104 @@
 package com.volunteerhub.service.impl;
 
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.EventCompletionStatsDTO;
+import com.volunteerhub.dto.EventDetailsDTO;
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.dto.PageResultDTO;
+import com.volunteerhub.dto.VersionStamp;
 import com.volunteerhub.model.Event;
 import com.volunteerhub.model.EventVolunteer;
 import com.volunteerhub.model.User;
 import com.volunteerhub.repository.EventRepository;
 import com.volunteerhub.repository.EventVolunteerRepository;
 import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.repository.WaitlistRepository;
+import com.volunteerhub.service.EventCacheService;
+import com.volunteerhub.service.EventFacetService;
 import com.volunteerhub.service.EventService;
+import com.volunteerhub.service.EventTimelineService;
+import com.volunteerhub.service.RecommendationService;
+import com.volunteerhub.service.RegistrationWindowService;
+import com.volunteerhub.service.ScheduleConflictService;
+import com.volunteerhub.service.SchedulerLeaseService;
+import com.volunteerhub.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+    private static final int DEFAULT_CATALOG_PAGE_SIZE = 20;
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
+    private static final LocalDateTime CATALOG_MIN_DATE_TIME = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime CATALOG_MAX_DATE_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    // Relevance pages this deep are never read; past it the offset scan is all cost
+    private static final int MAX_SEARCH_PAGE = 1000;
+    private static final int COMPLETION_PAGE_SIZE = 500;
+    // Bounds one run; whatever is left is picked up by the next one
+    private static final int MAX_COMPLETION_PAGES = 100;
+    static final String COMPLETION_LEASE = "event-auto-complete";
+
+    private static final Logger logger = LoggerFactory.getLogger(EventServiceImpl.class);
+
+    // Oldest-ended first off idx_events_status_end_date_time; rows an organizer is editing are left for the next page
+    private static final String COMPLETE_PAGE_SQL = "UPDATE events e SET status = 'COMPLETED', "
+            + "registration_state = 'CLOSED', updated_at = ? FROM (SELECT id FROM events WHERE status = 'PUBLISHED' "
+            + "AND end_date_time < ? ORDER BY end_date_time, id LIMIT ? FOR UPDATE SKIP LOCKED) s "
+            + "WHERE e.id = s.id RETURNING e.id";
+    private static final String NOTIFY_VOLUNTEERS_COMPLETED_SQL = "INSERT INTO notifications (user_id, title, message, "
+            + "type, is_read, created_at) SELECT ev.volunteer_id, 'Event Completed', "
+            + "'The event ''' || e.title || ''' has ended. Thank you for your contribution!', 'INFO', false, ? "
+            + "FROM event_volunteers ev JOIN events e ON e.id = ev.event_id "
+            + "WHERE ev.event_id = ANY(?) AND ev.status IN ('APPROVED', 'ATTENDED')";
+    private static final String NOTIFY_ORGANIZERS_COMPLETED_SQL = "INSERT INTO notifications (user_id, title, message, "
+            + "type, is_read, created_at) SELECT e.organizer_id, 'Event Completed', "
+            + "'Your event ''' || e.title || ''' has been marked as completed.', 'SUCCESS', false, ? "
+            + "FROM events e WHERE e.id = ANY(?)";
+    private static final String NOTIFY_ADMINS_COMPLETED_SQL = "INSERT INTO notifications (user_id, title, message, "
+            + "type, is_read, created_at) SELECT id, 'Events Completed', ?, 'SUCCESS', false, ? FROM users "
+            + "WHERE role = 'ADMIN'";
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventVolunteerRepository eventVolunteerRepository; // ✅ ADDED
+    private final WaitlistRepository waitlistRepository;
     private final com.volunteerhub.service.EmailService emailService;
     private final com.volunteerhub.service.NotificationService notificationService;
+    private final EventFacetService eventFacetService;
+    private final EventCacheService eventCacheService;
+    private final EventTimelineService eventTimelineService;
+    private final RecommendationService recommendationService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final RegistrationWindowService registrationWindowService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong completionRuns = new AtomicLong();
+    private final AtomicLong completionFailures = new AtomicLong();
+    private final AtomicLong eventsAutoCompleted = new AtomicLong();
+    private final AtomicLong completionNotifications = new AtomicLong();
+    private volatile EventCompletionStatsDTO lastCompletionRun;
 
     @Override
     public Event createEvent(Event event, Long userId) {
@@ -50,6 +129,7 @@ public class EventServiceImpl implements EventService {
 
         Event saved = eventRepository.save(event);
         System.out.println("EVENT SAVED: " + saved.getId());
+        afterEventChange(null, saved);
         // emailService.sendEventCreatedEmail(organizer, saved);
         notificationService.createNotification(
                 organizer,
@@ -73,6 +153,14 @@ public class EventServiceImpl implements EventService {
         return eventRepository.findByOrganizer(organizer);
     }
 
+    @Override
+    public List<EventSummaryDTO> getEventSummariesByOrganizer(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("Organizer not found");
+        }
+        return eventRepository.findSummariesByOrganizerId(userId);
+    }
+
     @Override
     public Event updateEvent(Long id, Event updated, Long userId) {
         Event event = eventRepository.findById(id)
@@ -85,6 +173,8 @@ public class EventServiceImpl implements EventService {
             throw new RuntimeException("Unauthorized: You can only update your own events");
         }
 
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
+
         // Check for critical changes before updating
         boolean criticalChange = false;
         if (!java.util.Objects.equals(event.getStartDate(), updated.getStartDate()) ||
@@ -134,6 +224,7 @@ public class EventServiceImpl implements EventService {
         validateRegistrationDates(event);
 
         Event saved = eventRepository.save(event);
+        afterEventChange(before, saved);
 
         if (criticalChange) {
             String changeDetails = String.format("New Schedule: %s at %s. Location: %s",
@@ -166,8 +257,10 @@ public class EventServiceImpl implements EventService {
             throw new RuntimeException("Unauthorized: You can only publish your own events");
         }
 
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
         event.setStatus(Event.EventStatus.PUBLISHED);
         Event saved = eventRepository.save(event);
+        afterEventChange(before, saved);
 
         notificationService.createNotification(
                 saved.getOrganizer(),
@@ -190,8 +283,10 @@ public class EventServiceImpl implements EventService {
             throw new RuntimeException("Unauthorized: You can only complete your own events");
         }
 
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
         event.setStatus(Event.EventStatus.COMPLETED);
         Event saved = eventRepository.save(event);
+        afterEventChange(before, saved);
 
         // Send notification to organizer
         // emailService.sendEventEndEmail(currentUser, saved, true);
@@ -206,21 +301,119 @@ public class EventServiceImpl implements EventService {
                 "The event '" + saved.getTitle() + "' organized by " + currentUser.getName() + " has been completed.",
                 com.volunteerhub.model.Notification.NotificationType.SUCCESS);
 
-        // Send notification to all approved/attended volunteers
-        List<EventVolunteer> volunteers = eventVolunteerRepository.findByEvent(saved);
-        for (EventVolunteer ev : volunteers) {
-            if (ev.getStatus() == EventVolunteer.VolunteerStatus.APPROVED
-                    || ev.getStatus() == EventVolunteer.VolunteerStatus.ATTENDED) {
-                // emailService.sendEventEndEmail(ev.getVolunteer(), saved, false);
-                notificationService.createNotification(
-                        ev.getVolunteer(),
-                        "Event Completed",
-                        "The event '" + saved.getTitle() + "' has ended. Thank you for your contribution!",
-                        com.volunteerhub.model.Notification.NotificationType.INFO);
+        // Send notification to all approved/attended volunteers in one insert
+        notifyCompleted(NOTIFY_VOLUNTEERS_COMPLETED_SQL, List.of(saved.getId()), Timestamp.valueOf(LocalDateTime.now()));
+
+        return saved;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.auto-complete.interval-ms:300000}",
+            initialDelayString = "${events.auto-complete.initial-delay-ms:60000}")
+    public int completePastEvents() {
+        if (!schedulerLeaseService.isLeader(COMPLETION_LEASE)) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        LocalDateTime runAt = LocalDateTime.now();
+        Timestamp cutoff = Timestamp.valueOf(runAt);
+        int completed = 0;
+        int pages = 0;
+        long notified = 0;
+        String error = null;
+        try {
+            while (pages < MAX_COMPLETION_PAGES) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                int[] pageNotified = new int[1];
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> page = jdbcTemplate.query(con -> {
+                        var ps = con.prepareStatement(COMPLETE_PAGE_SQL);
+                        ps.setTimestamp(1, now);
+                        ps.setTimestamp(2, cutoff);
+                        ps.setInt(3, COMPLETION_PAGE_SIZE);
+                        return ps;
+                    }, (rs, rowNum) -> rs.getLong(1));
+                    if (!page.isEmpty()) {
+                        pageNotified[0] = notifyCompleted(NOTIFY_VOLUNTEERS_COMPLETED_SQL, page, now)
+                                + notifyCompleted(NOTIFY_ORGANIZERS_COMPLETED_SQL, page, now);
+                    }
+                    return page;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                pages++;
+                completed += ids.size();
+                notified += pageNotified[0];
+                afterEventsCompleted(ids);
+                if (ids.size() < COMPLETION_PAGE_SIZE) {
+                    break;
+                }
+            }
+            // One summary per admin instead of one per event
+            if (completed > 0) {
+                String message = completed + " past event" + (completed == 1 ? " was" : "s were")
+                        + " completed automatically.";
+                notified += jdbcTemplate.update(NOTIFY_ADMINS_COMPLETED_SQL, message,
+                        Timestamp.valueOf(LocalDateTime.now()));
             }
+        } catch (Exception e) {
+            completionFailures.incrementAndGet();
+            error = e.getMessage();
+            logger.error("❌ Event auto-completion failed after {} events: {}", completed, e.getMessage());
         }
 
-        return saved;
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        completionRuns.incrementAndGet();
+        eventsAutoCompleted.addAndGet(completed);
+        completionNotifications.addAndGet(notified);
+        lastCompletionRun = EventCompletionStatsDTO.builder()
+                .lastRunAt(runAt)
+                .lastDurationMs(elapsedMs)
+                .lastCompleted(completed)
+                .lastPages(pages)
+                .lastError(error)
+                .build();
+        if (completed > 0) {
+            logger.info("🏁 Auto-completed {} events in {} pages with {} notifications in {} ms",
+                    completed, pages, notified, elapsedMs);
+        }
+        return completed;
+    }
+
+    @Override
+    public EventCompletionStatsDTO getCompletionStats() {
+        EventCompletionStatsDTO last = lastCompletionRun;
+        return EventCompletionStatsDTO.builder()
+                .runs(completionRuns.get())
+                .failures(completionFailures.get())
+                .totalCompleted(eventsAutoCompleted.get())
+                .totalNotifications(completionNotifications.get())
+                .lastRunAt(last != null ? last.getLastRunAt() : null)
+                .lastDurationMs(last != null ? last.getLastDurationMs() : 0)
+                .lastCompleted(last != null ? last.getLastCompleted() : 0)
+                .lastPages(last != null ? last.getLastPages() : 0)
+                .lastError(last != null ? last.getLastError() : null)
+                .build();
+    }
+
+    private int notifyCompleted(String sql, List<Long> eventIds, Timestamp now) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setTimestamp(1, now);
+            ps.setArray(2, con.createArrayOf("bigint", eventIds.toArray()));
+            return ps;
+        });
+    }
+
+    // The rows changed behind JPA's back, so reload them once and run the usual per-event hooks
+    private void afterEventsCompleted(List<Long> eventIds) {
+        for (Event event : eventRepository.findAllById(eventIds)) {
+            EventFacetService.FacetKey before = new EventFacetService.FacetKey(Event.EventStatus.PUBLISHED,
+                    event.getCategory(), event.getCity(), event.getArea(),
+                    event.getDateTime() != null ? YearMonth.from(event.getDateTime()).toString() : null);
+            afterEventChange(before, event);
+        }
     }
 
     @Override
@@ -235,7 +428,18 @@ public class EventServiceImpl implements EventService {
             throw new RuntimeException("Unauthorized: You can only delete your own events");
         }
 
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
         eventRepository.delete(event);
+        afterEventDeleted(id, before);
+    }
+
+    @Override
+    public void deleteEventAsAdmin(Long id) {
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
+        eventRepository.delete(event);
+        afterEventDeleted(id, before);
     }
 
     @Override
@@ -250,15 +454,22 @@ public class EventServiceImpl implements EventService {
             throw new RuntimeException("Unauthorized: You can only cancel your own events");
         }
 
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
         event.setStatus(Event.EventStatus.CANCELLED);
         event.setCancellationReason(reason);
-        Event saved = eventRepository.save(event);
-
-        // Notify all approved volunteers
+        Event saved = transactionTemplate.execute(status -> {
+            Event cancelled = eventRepository.save(event);
+            waitlistRepository.deleteByEventId(cancelled.getId());
+            return cancelled;
+        });
+        afterEventChange(before, saved);
+
+        // Notify everyone still registered, including those waiting for a slot
         List<EventVolunteer> volunteers = eventVolunteerRepository.findByEvent(saved);
         for (EventVolunteer ev : volunteers) {
             if (ev.getStatus() == EventVolunteer.VolunteerStatus.APPROVED
-                    || ev.getStatus() == EventVolunteer.VolunteerStatus.PENDING) {
+                    || ev.getStatus() == EventVolunteer.VolunteerStatus.PENDING
+                    || ev.getStatus() == EventVolunteer.VolunteerStatus.WAITLISTED) {
                 emailService.sendEventCancelledEmail(ev.getVolunteer(), saved, reason);
                 notificationService.createNotification(
                         ev.getVolunteer(),
@@ -286,6 +497,71 @@ public class EventServiceImpl implements EventService {
         return eventRepository.findByStatus(Event.EventStatus.PUBLISHED);
     }
 
+    @Override
+    public List<EventSummaryDTO> getPublishedEventSummaries() {
+        return eventRepository.findSummariesByStatus(Event.EventStatus.PUBLISHED);
+    }
+
+    @Override
+    public CursorPageDTO<EventSummaryDTO> getPublishedCatalog(String cursor, Integer size, String category,
+            String city, LocalDate from, LocalDate to) {
+        int pageSize = size == null || size < 1 ? DEFAULT_CATALOG_PAGE_SIZE : Math.min(size, MAX_CATALOG_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a count query
+        List<EventSummaryDTO> rows = eventRepository.findCatalogPage(
+                Event.EventStatus.PUBLISHED,
+                blankToNull(category),
+                blankToNull(city),
+                from != null ? from.atStartOfDay() : CATALOG_MIN_DATE_TIME,
+                to != null ? to.plusDays(1).atStartOfDay() : CATALOG_MAX_DATE_TIME,
+                after != null ? after.getPosition() : CATALOG_MIN_DATE_TIME,
+                after != null ? after.getId() : 0L,
+                PageRequest.ofSize(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<EventSummaryDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            EventSummaryDTO last = items.get(items.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getDateTime(), last.getId());
+        }
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
+    @Override
+    public PageResultDTO<EventSummaryDTO> searchEvents(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query is required");
+        }
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size < 1 ? DEFAULT_SEARCH_PAGE_SIZE : Math.min(size, MAX_SEARCH_PAGE_SIZE);
+        if (pageNumber > MAX_SEARCH_PAGE) {
+            return new PageResultDTO<>(List.of(), pageNumber, pageSize, false);
+        }
+
+        List<Long> rankedIds = eventRepository.searchPublishedEventIds(query.trim(), pageSize + 1,
+                pageNumber * pageSize);
+        boolean hasMore = rankedIds.size() > pageSize;
+        if (hasMore) {
+            rankedIds = rankedIds.subList(0, pageSize);
+        }
+
+        // Load the card data for this page only, then restore relevance order
+        Map<Long, EventSummaryDTO> summaries = rankedIds.isEmpty() ? Map.of()
+                : eventRepository.findSummariesByIdIn(rankedIds).stream()
+                        .collect(Collectors.toMap(EventSummaryDTO::getId, Function.identity()));
+        List<EventSummaryDTO> items = rankedIds.stream()
+                .map(summaries::get)
+                .filter(java.util.Objects::nonNull)
+                .toList();
+        return new PageResultDTO<>(items, pageNumber, pageSize, hasMore);
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     @Override
     public List<EventVolunteer> getEventVolunteers(Long eventId) {
         return eventVolunteerRepository.findByEventIdWithDetails(eventId);
@@ -297,12 +573,41 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
     }
 
+    @Override
+    public EventDetailsDTO getEventDetails(Long eventId) {
+        return eventCacheService.get(eventId, id -> eventRepository.findByIdWithOrganizer(id)
+                .map(EventDetailsDTO::from)
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + id)));
+    }
+
+    @Override
+    public VersionStamp getEventVersion(Long eventId) {
+        return eventRepository.findVersionById(eventId);
+    }
+
+    @Override
+    public VersionStamp getPublishedEventsVersion() {
+        return eventRepository.findVersionByStatus(Event.EventStatus.PUBLISHED);
+    }
+
+    @Override
+    public VersionStamp getOrganizerEventsVersion(Long userId) {
+        return eventRepository.findVersionByOrganizerId(userId);
+    }
+
+    @Override
+    public VersionStamp getEventVolunteersVersion(Long eventId) {
+        return eventRepository.findRosterVersion(eventId);
+    }
+
     @Override
     public Event approveEvent(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
         event.setStatus(Event.EventStatus.PUBLISHED);
         Event saved = eventRepository.save(event);
+        afterEventChange(before, saved);
 
         notificationService.createNotification(
                 saved.getOrganizer(),
@@ -317,8 +622,10 @@ public class EventServiceImpl implements EventService {
     public Event rejectEvent(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
+        EventFacetService.FacetKey before = EventFacetService.FacetKey.of(event);
         event.setStatus(Event.EventStatus.REJECTED);
         Event saved = eventRepository.save(event);
+        afterEventChange(before, saved);
 
         notificationService.createNotification(
                 saved.getOrganizer(),
@@ -329,7 +636,28 @@ public class EventServiceImpl implements EventService {
         return saved;
     }
 
-    private void validateRegistrationDates(Event event) {
+    // Keeps the in-memory read models in step with a persisted transition
+    private void afterEventChange(EventFacetService.FacetKey before, Event after) {
+        eventFacetService.recordChange(before, after != null ? EventFacetService.FacetKey.of(after) : null);
+        if (after != null) {
+            eventCacheService.invalidate(after.getId());
+            eventTimelineService.recordChange(after);
+            recommendationService.markEventChanged(after.getId());
+            scheduleConflictService.evictEvent(after.getId());
+            registrationWindowService.recordChange(after);
+        }
+    }
+
+    private void afterEventDeleted(Long id, EventFacetService.FacetKey before) {
+        afterEventChange(before, null);
+        eventCacheService.invalidate(id);
+        eventTimelineService.remove(id);
+        recommendationService.markEventChanged(id);
+        scheduleConflictService.evictEvent(id);
+    }
+
+    // Shared with the bulk importer so both paths enforce the same window rules
+    static void validateRegistrationDates(Event event) {
         if (event.getRegistrationCloseDateTime() != null && event.getDateTime() != null) {
             if (event.getRegistrationCloseDateTime().isAfter(event.getDateTime())) {
                 throw new RuntimeException("Registration close date must be before event start date/time");
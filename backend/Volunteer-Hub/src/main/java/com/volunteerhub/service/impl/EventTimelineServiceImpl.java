@@ -0,0 +1,132 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.service.EventTimelineService;
+import com.volunteerhub.util.IntervalIndex;
+import com.volunteerhub.util.KeysetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class EventTimelineServiceImpl implements EventTimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventTimelineServiceImpl.class);
+    private static final Set<Event.EventStatus> TIMELINE_STATUSES =
+            EnumSet.of(Event.EventStatus.PUBLISHED, Event.EventStatus.COMPLETED);
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final EventRepository eventRepository;
+    private final Duration maxWindow;
+    private final int maxResults;
+
+    // Intervals only; summaries are hydrated per query so volunteer counts stay current
+    private volatile IntervalIndex<Event.EventStatus> index = new IntervalIndex<>();
+
+    public EventTimelineServiceImpl(EventRepository eventRepository,
+            @Value("${events.timeline.max-window-days:366}") long maxWindowDays,
+            @Value("${events.timeline.max-results:500}") int maxResults) {
+        this.eventRepository = eventRepository;
+        this.maxWindow = Duration.ofDays(maxWindowDays);
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public void recordChange(Event event) {
+        if (event == null || event.getId() == null) {
+            return;
+        }
+        if (event.getDateTime() == null || !TIMELINE_STATUSES.contains(event.getStatus())) {
+            index.remove(event.getId());
+            return;
+        }
+        index.put(event.getId(), event.getDateTime(), event.resolveEndDateTime(), event.getStatus());
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        index.remove(eventId);
+    }
+
+    @Override
+    public CursorPageDTO<EventSummaryDTO> getTimeline(LocalDateTime from, LocalDateTime to,
+            Event.EventStatus status, String cursor, Integer size) {
+        if (status != null && !TIMELINE_STATUSES.contains(status)) {
+            throw new RuntimeException("Timeline only covers PUBLISHED and COMPLETED events");
+        }
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(7);
+        if (end.isBefore(start)) {
+            throw new RuntimeException("'to' must not be before 'from'");
+        }
+        if (Duration.between(start, end).compareTo(maxWindow) > 0) {
+            throw new RuntimeException("Timeline window cannot exceed " + maxWindow.toDays() + " days");
+        }
+
+        int pageSize = size == null || size < 1 ? Math.min(DEFAULT_PAGE_SIZE, maxResults) : Math.min(size, maxResults);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // The status filter and the page limit run inside the tree walk, so a page costs O(log n + size)
+        List<IntervalIndex.Interval<Event.EventStatus>> page = index.overlapping(start, end,
+                after != null ? after.getPosition() : null, after != null ? after.getId() : null,
+                value -> status == null || value == status, pageSize + 1);
+        boolean hasMore = page.size() > pageSize;
+        List<IntervalIndex.Interval<Event.EventStatus>> items = hasMore ? page.subList(0, pageSize) : page;
+        if (items.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), null, false);
+        }
+
+        List<Long> ids = items.stream().map(IntervalIndex.Interval::id).toList();
+        Map<Long, EventSummaryDTO> byId = eventRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(EventSummaryDTO::getId, Function.identity()));
+        // The index can briefly lead the database (or vice versa); trust the row we just read
+        List<EventSummaryDTO> summaries = ids.stream()
+                .map(byId::get)
+                .filter(summary -> summary != null && TIMELINE_STATUSES.contains(summary.getStatus()))
+                .sorted(Comparator.comparing(EventSummaryDTO::getDateTime).thenComparing(EventSummaryDTO::getId))
+                .toList();
+
+        // The cursor follows the index order, so a row the database dropped cannot stall paging
+        IntervalIndex.Interval<Event.EventStatus> last = items.get(items.size() - 1);
+        return new CursorPageDTO<>(summaries, hasMore ? KeysetCursor.encode(last.start(), last.id()) : null, hasMore);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.timeline.reload-interval-ms:600000}", initialDelayString = "${events.timeline.reload-interval-ms:600000}")
+    public void reload() {
+        try {
+            IntervalIndex<Event.EventStatus> rebuilt = new IntervalIndex<>();
+            for (Object[] row : eventRepository.findTimelineSlots(TIMELINE_STATUSES)) {
+                LocalDateTime startsAt = (LocalDateTime) row[2];
+                LocalDateTime endsAt = row[3] != null ? (LocalDateTime) row[3] : startsAt;
+                rebuilt.put((Long) row[0], startsAt, endsAt, (Event.EventStatus) row[1]);
+            }
+            index = rebuilt;
+            logger.info("📅 Event timeline loaded: {} events", rebuilt.size());
+        } catch (Exception e) {
+            logger.error("❌ Event timeline reload failed: {}", e.getMessage());
+        }
+    }
+}
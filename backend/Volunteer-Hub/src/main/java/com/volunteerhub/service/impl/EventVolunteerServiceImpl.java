@@ -1,23 +1,177 @@
 package com.volunteerhub.service.impl;
 
+import com.volunteerhub.dto.AttendanceSyncRequest;
+import com.volunteerhub.dto.AttendanceSyncResultDTO;
+import com.volunteerhub.dto.BulkDecisionRequest;
+import com.volunteerhub.dto.BulkDecisionResultDTO;
+import com.volunteerhub.dto.CursorPageDTO;
+import com.volunteerhub.dto.RollCallResultDTO;
+import com.volunteerhub.dto.ScheduleConflictDTO;
+import com.volunteerhub.dto.VersionStamp;
+import com.volunteerhub.dto.VolunteerHistoryDTO;
+import com.volunteerhub.dto.VolunteerRequestDTO;
+import com.volunteerhub.exception.ScheduleConflictException;
 import com.volunteerhub.model.*;
 import com.volunteerhub.repository.AttendanceRepository;
 import com.volunteerhub.repository.EventRepository;
 import com.volunteerhub.repository.EventVolunteerRepository;
 import com.volunteerhub.repository.FeedbackRepository;
 import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.repository.WaitlistRepository;
+import com.volunteerhub.service.CertificateService;
 import com.volunteerhub.service.EventVolunteerService;
+import com.volunteerhub.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventVolunteerServiceImpl implements EventVolunteerService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EventVolunteerServiceImpl.class);
+    private static final int MAX_BULK_DECISIONS = 1000;
+    private static final int MAX_ROLL_CALL = 1000;
+    private static final int MAX_JOURNAL_SYNC = 10000;
+    private static final int COUNTER_RECONCILE_CHUNK = 1000;
+    static final String COUNTER_RECONCILE_LEASE = "attendance-counters";
+    // Device clocks drift; anything further ahead than this is treated as a bad clock
+    private static final long MAX_JOURNAL_CLOCK_SKEW_MINUTES = 5;
+    private static final int DEFAULT_INBOX_PAGE_SIZE = 20;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final LocalDateTime INBOX_MIN_JOINED_AT = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime INBOX_MAX_JOINED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    // Locks the rows, applies the decision only where the status still allows it and
+    // returns each row's previous status so freed slots can be accounted for
+    private static final String BULK_APPROVE_SQL = "UPDATE event_volunteers ev SET status = 'APPROVED', "
+            + "approved_at = ?, updated_at = ? FROM (SELECT id, status AS previous FROM event_volunteers "
+            + "WHERE id = ANY (?) FOR UPDATE) old WHERE ev.id = old.id AND old.previous = 'PENDING' "
+            + "RETURNING ev.id, ev.event_id, old.previous";
+    private static final String BULK_REJECT_SQL = "UPDATE event_volunteers ev SET status = 'REJECTED', "
+            + "rejection_reason = ?, updated_at = ? FROM (SELECT id, status AS previous FROM event_volunteers "
+            + "WHERE id = ANY (?) FOR UPDATE) old WHERE ev.id = old.id "
+            + "AND old.previous IN ('PENDING', 'APPROVED', 'WAITLISTED') "
+            + "RETURNING ev.id, ev.event_id, old.previous";
+
+    // Batch join: unknown volunteers and existing registrations are skipped, queue order is kept
+    private static final String BATCH_JOIN_SQL = "INSERT INTO event_volunteers (event_id, volunteer_id, status, "
+            + "joined_at, updated_at) SELECT ?, q.id, 'PENDING', ?, ? FROM unnest(?) WITH ORDINALITY AS q(id, ord) "
+            + "JOIN users u ON u.id = q.id ORDER BY q.ord "
+            + "ON CONFLICT (event_id, volunteer_id) DO NOTHING RETURNING id";
+    // Takes up to the requested number of free slots and returns how many it got
+    private static final String RESERVE_SLOTS_SQL = "UPDATE events e SET current_volunteers = CASE "
+            + "WHEN e.required_volunteers IS NULL THEN old.held + ? "
+            + "ELSE GREATEST(old.held, LEAST(e.required_volunteers, old.held + ?)) END, updated_at = ? "
+            + "FROM (SELECT id, current_volunteers AS held FROM events WHERE id = ? FOR UPDATE) old "
+            + "WHERE e.id = old.id AND e.status = 'PUBLISHED' RETURNING e.current_volunteers - old.held";
+    private static final String BATCH_WAITLIST_SQL = "UPDATE event_volunteers SET status = 'WAITLISTED' "
+            + "WHERE id = ANY (?)";
+    private static final String BATCH_WAITLIST_ENTRY_SQL = "INSERT INTO event_waitlist (event_id, "
+            + "event_volunteer_id, created_at) SELECT ?, q.id, ? FROM unnest(?) WITH ORDINALITY AS q(id, ord) "
+            + "ORDER BY q.ord";
+    // Serialises a volunteer's joins so two overlapping events cannot both pass the conflict check
+    private static final String VOLUNTEER_LOCK_SQL = "SELECT id FROM users WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+    private static final String WAITLIST_POSITIONS_SQL = "SELECT w.event_volunteer_id, w.position FROM ("
+            + "SELECT event_volunteer_id, ROW_NUMBER() OVER (ORDER BY id) AS position FROM event_waitlist "
+            + "WHERE event_id = ?) w WHERE w.event_volunteer_id = ANY (?)";
+
+    // Only rows created or actually flipped come back, with the status they replaced, so a
+    // re-sent roll call (or two organizers racing on the same day) reports each new PRESENT
+    // exactly once. Registrations no longer APPROVED or ATTENDED come back with a null status.
+    // Every CTE reads the statement's snapshot, so "old" is the day before this write.
+    private static final String ROLL_CALL_UPSERT_SQL = "WITH r AS (SELECT * FROM unnest(?::bigint[], ?::varchar[]) "
+            + "AS r(id, status)), eligible AS (SELECT r.id, r.status FROM r JOIN event_volunteers ev ON ev.id = r.id "
+            + "AND ev.status IN ('APPROVED', 'ATTENDED')), old AS (SELECT event_volunteer_id, status FROM attendance "
+            + "WHERE date = ? AND event_volunteer_id IN (SELECT id FROM eligible)), "
+            + "written AS (INSERT INTO attendance (event_volunteer_id, "
+            + "date, status, updated_at) SELECT id, ?, status, ? FROM eligible "
+            + "ON CONFLICT (event_volunteer_id, date) DO UPDATE SET status = EXCLUDED.status, "
+            + "updated_at = EXCLUDED.updated_at "
+            + "WHERE attendance.status IS DISTINCT FROM EXCLUDED.status "
+            + "RETURNING event_volunteer_id, status, (xmax = 0) AS inserted) "
+            + "SELECT w.event_volunteer_id, w.status, w.inserted, o.status FROM written w "
+            + "LEFT JOIN old o ON o.event_volunteer_id = w.event_volunteer_id "
+            + "UNION ALL SELECT id, NULL, NULL, NULL FROM r WHERE id NOT IN (SELECT id FROM eligible)";
+    // Offline journal: replayed (organizer, device, sequence) entries are dropped and only new ones come back
+    private static final String JOURNAL_INSERT_SQL = "INSERT INTO attendance_journal (organizer_id, device_id, "
+            + "sequence, event_volunteer_id, entry_type, occurred_at, received_at) "
+            + "SELECT ?, ?, j.seq, j.id, j.type, j.at, ? FROM unnest(?::bigint[], ?::bigint[], ?::varchar[], "
+            + "?::timestamp[]) AS j(seq, id, type, at) ON CONFLICT (organizer_id, device_id, sequence) DO NOTHING "
+            + "RETURNING sequence";
+    // Last writer wins on the status: a device entry only flips a day that was last decided earlier
+    private static final String JOURNAL_PRESENT_SQL = "INSERT INTO attendance (event_volunteer_id, date, status, "
+            + "updated_at) SELECT j.id, j.day, 'PRESENT', j.at FROM unnest(?::bigint[], ?::date[], ?::timestamp[]) "
+            + "AS j(id, day, at) JOIN event_volunteers ev ON ev.id = j.id AND ev.status IN ('APPROVED', 'ATTENDED') "
+            + "ON CONFLICT (event_volunteer_id, date) DO UPDATE SET status = 'PRESENT', updated_at = EXCLUDED.updated_at "
+            + "WHERE attendance.status IS DISTINCT FROM 'PRESENT' "
+            + "AND (attendance.updated_at IS NULL OR attendance.updated_at <= EXCLUDED.updated_at) "
+            + "RETURNING event_volunteer_id, (xmax = 0) AS inserted, date";
+    // Gate times are themselves timestamps, so the latest one reported wins
+    private static final String JOURNAL_TIMES_SQL = "UPDATE attendance a SET "
+            + "check_in_at = GREATEST(a.check_in_at, j.check_in), check_out_at = GREATEST(a.check_out_at, j.check_out), "
+            + "updated_at = GREATEST(a.updated_at, j.at) FROM unnest(?::bigint[], ?::date[], ?::timestamp[], "
+            + "?::timestamp[], ?::timestamp[]) AS j(id, day, check_in, check_out, at) "
+            + "WHERE a.event_volunteer_id = j.id AND a.date = j.day";
+    // The ledger key makes each (registration, day) award once; only rows actually appended move the balance
+    private static final String AWARD_POINTS_SQL = "WITH awarded AS (INSERT INTO points_ledger (user_id, "
+            + "event_volunteer_id, event_id, date, reason, points, created_at) SELECT ev.volunteer_id, ev.id, ev.event_id, "
+            + "a.day, 'ATTENDANCE', ?, ? FROM unnest(?::bigint[], ?::date[]) AS a(id, day) "
+            + "JOIN event_volunteers ev ON ev.id = a.id "
+            + "ON CONFLICT (event_volunteer_id, date, reason) DO NOTHING RETURNING user_id, points) "
+            + "UPDATE users u SET points = COALESCE(u.points, 0) + s.points FROM (SELECT user_id, SUM(points) AS points "
+            + "FROM awarded GROUP BY user_id) s WHERE u.id = s.user_id RETURNING s.points";
+    // Applies per-registration counter deltas and the version bump; any day turning PRESENT marks the registration ATTENDED
+    private static final String ATTENDANCE_REGISTRATIONS_SQL = "UPDATE event_volunteers ev SET status = CASE "
+            + "WHEN c.attended THEN 'ATTENDED' ELSE ev.status END, "
+            + "present_days = COALESCE(ev.present_days, 0) + c.present, total_days = COALESCE(ev.total_days, 0) + c.total, "
+            + "updated_at = ? FROM (SELECT id, BOOL_OR(present > 0) AS attended, SUM(present) AS present, "
+            + "SUM(total) AS total FROM unnest(?::bigint[], ?::int[], ?::int[]) AS d(id, present, total) GROUP BY id) c "
+            + "WHERE ev.id = c.id";
+    // Registration id range holding the next reconciliation chunk
+    private static final String COUNTER_CHUNK_SQL = "SELECT MAX(id) FROM (SELECT id FROM event_volunteers "
+            + "WHERE id > ? ORDER BY id LIMIT ?) s";
+    private static final String COUNTER_DRIFT_SQL = "SELECT ev.id FROM event_volunteers ev LEFT JOIN ("
+            + "SELECT event_volunteer_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE status = 'PRESENT') AS present "
+            + "FROM attendance WHERE event_volunteer_id > ? AND event_volunteer_id <= ? GROUP BY event_volunteer_id) c "
+            + "ON c.event_volunteer_id = ev.id WHERE ev.id > ? AND ev.id <= ? "
+            + "AND (ev.present_days IS DISTINCT FROM COALESCE(c.present, 0) OR ev.total_days IS DISTINCT FROM COALESCE(c.total, 0))";
+    private static final String COUNTER_LOCK_SQL = "SELECT id FROM event_volunteers WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+    // Runs after the lock in its own statement, so it counts every attendance write committed before it
+    private static final String COUNTER_REPAIR_SQL = "UPDATE event_volunteers ev SET present_days = c.present, "
+            + "total_days = c.total, updated_at = ? FROM (SELECT r.id, COUNT(a.id) AS total, "
+            + "COUNT(a.id) FILTER (WHERE a.status = 'PRESENT') AS present FROM unnest(?::bigint[]) AS r(id) "
+            + "LEFT JOIN attendance a ON a.event_volunteer_id = r.id GROUP BY r.id) c WHERE ev.id = c.id "
+            + "AND (ev.present_days IS DISTINCT FROM c.present OR ev.total_days IS DISTINCT FROM c.total) "
+            + "RETURNING ev.volunteer_id";
+
     private final EventVolunteerRepository eventVolunteerRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
@@ -26,6 +180,13 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
     private final com.volunteerhub.service.EmailService emailService;
     private final com.volunteerhub.service.NotificationService notificationService;
     private final com.volunteerhub.service.FileStorageService fileStorageService;
+    private final com.volunteerhub.service.EventCacheService eventCacheService;
+    private final com.volunteerhub.service.RecommendationService recommendationService;
+    private final TransactionTemplate transactionTemplate;
+    private final WaitlistRepository waitlistRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final com.volunteerhub.service.ScheduleConflictService scheduleConflictService;
+    private final com.volunteerhub.service.SchedulerLeaseService schedulerLeaseService;
 
     @Override
     public EventVolunteer joinEvent(Long eventId, Long volunteerId) {
@@ -39,18 +200,7 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
             throw new RuntimeException("Already joined this event");
         }
 
-        if (event.getStatus() != Event.EventStatus.PUBLISHED) {
-            throw new RuntimeException("Cannot join non-published events");
-        }
-
-        // ✅ CHECK REGISTRATION WINDOW
-        LocalDateTime now = LocalDateTime.now();
-        if (event.getRegistrationOpenDateTime() != null && now.isBefore(event.getRegistrationOpenDateTime())) {
-            throw new RuntimeException("Registration for this event has not opened yet");
-        }
-        if (event.getRegistrationCloseDateTime() != null && now.isAfter(event.getRegistrationCloseDateTime())) {
-            throw new RuntimeException("Registration for this event is closed");
-        }
+        checkJoinable(event);
 
         EventVolunteer eventVolunteer = EventVolunteer.builder()
                 .event(event)
@@ -59,10 +209,45 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
                 .joinedAt(LocalDateTime.now())
                 .build();
 
-        event.setCurrentVolunteers(event.getCurrentVolunteers() + 1);
-        eventRepository.save(event);
+        // Insert first so the unique key rejects double joins, then take a slot with one
+        // conditional UPDATE; the event row lock is held only until this short commit.
+        // A full event queues the registration instead of failing.
+        EventVolunteer saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                lockVolunteers(new Long[] { volunteerId });
+                checkNoConflicts(volunteerId, event);
+                scheduleConflictService.evictVolunteerUntilCompletion(volunteerId);
+                EventVolunteer inserted = eventVolunteerRepository.saveAndFlush(eventVolunteer);
+                if (eventRepository.reserveSlot(eventId, LocalDateTime.now()) == 0) {
+                    // Full, or cancelled/closed since the checks above; only a full event waitlists
+                    recheckJoinable(eventId);
+                    inserted.setStatus(EventVolunteer.VolunteerStatus.WAITLISTED);
+                    waitlistRepository.save(WaitlistEntry.builder().eventId(eventId).eventVolunteer(inserted).build());
+                }
+                return inserted;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Already joined this event");
+        }
+        registrationsChanged(volunteerId);
+
+        if (saved.getStatus() == EventVolunteer.VolunteerStatus.WAITLISTED) {
+            // A slot may have been released before our queue entry was visible to the releaser
+            if (saved.getId().equals(promoteIfSlotFree(eventId))) {
+                saved.setStatus(EventVolunteer.VolunteerStatus.PENDING);
+                return saved;
+            }
+            notificationService.createNotification(
+                    volunteer,
+                    "Added to Waitlist",
+                    "'" + event.getTitle() + "' is full. You are #" + getWaitlistPosition(saved.getId(), volunteerId)
+                            + " on the waitlist and will be moved up automatically when a spot opens.",
+                    com.volunteerhub.model.Notification.NotificationType.INFO);
+            return saved;
+        }
 
-        EventVolunteer saved = eventVolunteerRepository.save(eventVolunteer);
+        eventCacheService.invalidate(eventId);
         emailService.sendEventJoinRequestEmail(volunteer, event);
 
         // Notify Volunteer
@@ -82,6 +267,136 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
         return saved;
     }
 
+    @Override
+    public List<EventVolunteer> joinEventBatch(Long eventId, List<Long> volunteerIds) {
+        Event event = eventRepository.findByIdWithOrganizer(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        checkJoinable(event);
+        Long[] ids = new LinkedHashSet<>(volunteerIds).toArray(Long[]::new);
+        if (ids.length == 0) {
+            return List.of();
+        }
+
+        // Insert every registration, take as many slots as are free in one UPDATE and
+        // waitlist the rest in queue order - a handful of statements however big the batch
+        List<Long> waitlisted = new ArrayList<>();
+        List<Long> inserted = transactionTemplate.execute(status -> {
+            lockVolunteers(ids);
+            Long[] free = Arrays.stream(ids).filter(id -> {
+                try {
+                    checkNoConflicts(id, event);
+                    return true;
+                } catch (ScheduleConflictException e) {
+                    return false;
+                }
+            }).toArray(Long[]::new);
+            for (Long id : free) {
+                scheduleConflictService.evictVolunteerUntilCompletion(id);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp timestamp = Timestamp.valueOf(now);
+            List<Long> created = jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(BATCH_JOIN_SQL);
+                ps.setLong(1, eventId);
+                ps.setTimestamp(2, timestamp);
+                ps.setTimestamp(3, timestamp);
+                ps.setArray(4, con.createArrayOf("bigint", free));
+                return ps;
+            }, (rs, rowNum) -> rs.getLong(1));
+            // Identity values follow insert order, which follows queue order
+            created.sort(null);
+            if (created.isEmpty()) {
+                return created;
+            }
+            List<Integer> granted = jdbcTemplate.queryForList(RESERVE_SLOTS_SQL, Integer.class,
+                    created.size(), created.size(), timestamp, eventId);
+            int slots = granted.isEmpty() ? 0 : granted.get(0);
+            if (slots < created.size()) {
+                // As in joinEvent: a batch that raced a cancel or close is rejected, not waitlisted
+                recheckJoinable(eventId);
+                waitlisted.addAll(created.subList(slots, created.size()));
+                Long[] queued = waitlisted.toArray(Long[]::new);
+                jdbcTemplate.update(con -> {
+                    var ps = con.prepareStatement(BATCH_WAITLIST_SQL);
+                    ps.setArray(1, con.createArrayOf("bigint", queued));
+                    return ps;
+                });
+                jdbcTemplate.update(con -> {
+                    var ps = con.prepareStatement(BATCH_WAITLIST_ENTRY_SQL);
+                    ps.setLong(1, eventId);
+                    ps.setTimestamp(2, timestamp);
+                    ps.setArray(3, con.createArrayOf("bigint", queued));
+                    return ps;
+                });
+            }
+            return created;
+        });
+        if (inserted.isEmpty()) {
+            return List.of();
+        }
+
+        // Same race as a single join: a slot may have been released before these entries were visible
+        Set<Long> promoted = new LinkedHashSet<>();
+        if (!waitlisted.isEmpty()) {
+            for (Long id = promoteIfSlotFree(eventId); id != null; id = promoteIfSlotFree(eventId)) {
+                promoted.add(id);
+            }
+        }
+
+        Map<Long, EventVolunteer> loaded = eventVolunteerRepository.findWithEventAndVolunteerByIdIn(inserted).stream()
+                .collect(Collectors.toMap(EventVolunteer::getId, Function.identity()));
+        List<EventVolunteer> registrations = inserted.stream().map(loaded::get)
+                .filter(java.util.Objects::nonNull).toList();
+        // Read after promotion, so promoted registrations are gone and the rest count from the real head
+        Map<Long, Long> waitlistPositions = new HashMap<>();
+        if (!waitlisted.isEmpty()) {
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(WAITLIST_POSITIONS_SQL);
+                ps.setLong(1, eventId);
+                ps.setArray(2, con.createArrayOf("bigint", waitlisted.toArray()));
+                return ps;
+            }, (RowCallbackHandler) rs -> waitlistPositions.put(rs.getLong(1), rs.getLong(2)));
+        }
+        List<Notification> notifications = new ArrayList<>();
+        List<EventVolunteer> submitted = new ArrayList<>();
+        for (EventVolunteer ev : registrations) {
+            registrationsChanged(ev.getVolunteer().getId());
+            if (promoted.contains(ev.getId())) {
+                continue;
+            }
+            if (ev.getStatus() == EventVolunteer.VolunteerStatus.WAITLISTED) {
+                notifications.add(Notification.builder()
+                        .user(ev.getVolunteer())
+                        .title("Added to Waitlist")
+                        .message("'" + event.getTitle() + "' is full. You are #"
+                                + waitlistPositions.getOrDefault(ev.getId(), 0L)
+                                + " on the waitlist and will be moved up automatically when a spot opens.")
+                        .type(Notification.NotificationType.INFO)
+                        .build());
+                continue;
+            }
+            submitted.add(ev);
+            notifications.add(Notification.builder()
+                    .user(ev.getVolunteer())
+                    .title("Application Submitted")
+                    .message("Your application for '" + event.getTitle() + "' has been submitted.")
+                    .type(Notification.NotificationType.INFO)
+                    .build());
+            notifications.add(Notification.builder()
+                    .user(event.getOrganizer())
+                    .title("New Join Request")
+                    .message(ev.getVolunteer().getName() + " has requested to join '" + event.getTitle() + "'.")
+                    .type(Notification.NotificationType.INFO)
+                    .build());
+        }
+        notificationService.createNotifications(notifications);
+        if (!submitted.isEmpty()) {
+            eventCacheService.invalidate(eventId);
+            emailService.sendEventJoinRequestEmails(submitted);
+        }
+        return registrations;
+    }
+
     @Override
     public EventVolunteer approveVolunteer(Long eventVolunteerId, Long organizerId) {
         EventVolunteer ev = eventVolunteerRepository.findById(eventVolunteerId)
@@ -95,9 +410,14 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
             throw new RuntimeException("Unauthorized");
         }
 
+        if (ev.getStatus() == EventVolunteer.VolunteerStatus.WAITLISTED) {
+            throw new RuntimeException("Volunteer is on the waitlist and will be promoted when a spot opens");
+        }
+
         ev.setStatus(EventVolunteer.VolunteerStatus.APPROVED);
         ev.setApprovedAt(LocalDateTime.now());
         EventVolunteer savedEv = eventVolunteerRepository.save(ev);
+        registrationsChanged(savedEv.getVolunteer().getId());
         // emailService.sendEventJoinAcceptedEmail(savedEv.getVolunteer(),
         // savedEv.getEvent());
         notificationService.createNotification(
@@ -121,9 +441,11 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
             throw new RuntimeException("Unauthorized");
         }
 
+        EventVolunteer.VolunteerStatus previousStatus = ev.getStatus();
         ev.setStatus(EventVolunteer.VolunteerStatus.REJECTED);
         ev.setRejectionReason(reason);
-        EventVolunteer saved = eventVolunteerRepository.save(ev);
+        EventVolunteer saved = saveAndFreeSlot(ev, previousStatus);
+        registrationsChanged(saved.getVolunteer().getId());
         emailService.sendEventJoinRejectedEmail(saved.getVolunteer(), saved.getEvent(), reason);
 
         notificationService.createNotification(
@@ -135,6 +457,142 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
         return saved;
     }
 
+    @Override
+    public BulkDecisionResultDTO bulkDecision(BulkDecisionRequest request) {
+        long started = System.nanoTime();
+        if (request.getDecision() == null || request.getOrganizerId() == null) {
+            throw new RuntimeException("organizerId and decision are required");
+        }
+        if (request.getRegistrationIds() == null || request.getRegistrationIds().isEmpty()) {
+            throw new RuntimeException("registrationIds must not be empty");
+        }
+        Set<Long> ids = new LinkedHashSet<>(request.getRegistrationIds());
+        if (ids.size() > MAX_BULK_DECISIONS) {
+            throw new RuntimeException("At most " + MAX_BULK_DECISIONS + " registrations per request");
+        }
+        boolean approve = request.getDecision() == BulkDecisionRequest.Decision.APPROVE;
+        String reason = request.getReason() != null && !request.getReason().isBlank()
+                ? request.getReason() : "Not selected for this event";
+
+        // One query for existence, ownership and everything the notifications need
+        Map<Long, EventVolunteer> registrations = eventVolunteerRepository.findWithEventAndVolunteerByIdIn(ids)
+                .stream().collect(Collectors.toMap(EventVolunteer::getId, Function.identity()));
+        Map<Long, BulkDecisionResultDTO.Item> results = new LinkedHashMap<>();
+        List<Long> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            EventVolunteer ev = registrations.get(id);
+            if (ev == null) {
+                results.put(id, failure(id, "Registration not found"));
+            } else if (!ev.getEvent().getOrganizer().getId().equals(request.getOrganizerId())) {
+                results.put(id, failure(id, "Unauthorized"));
+            } else {
+                eligible.add(id);
+            }
+        }
+
+        List<Long> decided = new ArrayList<>();
+        List<Long> promoted = new ArrayList<>();
+        Set<Long> eventsWithFreedSlots = new LinkedHashSet<>();
+        if (!eligible.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> changed = jdbcTemplate.query(con -> {
+                    var ps = con.prepareStatement(approve ? BULK_APPROVE_SQL : BULK_REJECT_SQL);
+                    if (approve) {
+                        ps.setTimestamp(1, Timestamp.valueOf(now));
+                    } else {
+                        ps.setString(1, reason);
+                    }
+                    ps.setTimestamp(2, Timestamp.valueOf(now));
+                    Array array = con.createArrayOf("bigint", eligible.toArray());
+                    ps.setArray(3, array);
+                    return ps;
+                }, (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getLong(2), rs.getString(3) });
+
+                Map<Long, Integer> freedPerEvent = new HashMap<>();
+                List<Long> leftWaitlist = new ArrayList<>();
+                for (Object[] row : changed) {
+                    decided.add((Long) row[0]);
+                    EventVolunteer.VolunteerStatus previous = EventVolunteer.VolunteerStatus.valueOf((String) row[2]);
+                    if (!approve && holdsSlot(previous)) {
+                        freedPerEvent.merge((Long) row[1], 1, Integer::sum);
+                    } else if (previous == EventVolunteer.VolunteerStatus.WAITLISTED) {
+                        leftWaitlist.add((Long) row[0]);
+                    }
+                }
+                leftWaitlist.forEach(waitlistRepository::deleteByEventVolunteerId);
+                // Freed slots go to waitlist heads first; the remainder is released in one UPDATE
+                freedPerEvent.forEach((eventId, freed) -> {
+                    int remaining = freed;
+                    while (remaining > 0) {
+                        Optional<WaitlistEntry> head = waitlistRepository.lockHead(eventId);
+                        if (head.isEmpty()) {
+                            break;
+                        }
+                        promoted.add(promote(head.get(), now));
+                        remaining--;
+                    }
+                    if (remaining > 0) {
+                        eventRepository.releaseSlots(eventId, remaining, now);
+                    }
+                    eventsWithFreedSlots.add(eventId);
+                });
+            });
+        }
+
+        Set<Long> decidedIds = Set.copyOf(decided);
+        List<Notification> notifications = new ArrayList<>();
+        List<EventVolunteer> rejected = new ArrayList<>();
+        for (Long id : eligible) {
+            EventVolunteer ev = registrations.get(id);
+            if (!decidedIds.contains(id)) {
+                results.put(id, failure(id, "Cannot " + (approve ? "approve" : "reject")
+                        + " a registration with status " + ev.getStatus()));
+                continue;
+            }
+            String newStatus = approve ? "APPROVED" : "REJECTED";
+            results.put(id, new BulkDecisionResultDTO.Item(id, true, newStatus, null));
+            registrationsChanged(ev.getVolunteer().getId());
+            if (approve) {
+                notifications.add(Notification.builder()
+                        .user(ev.getVolunteer())
+                        .title("Application Approved")
+                        .message("Your request to join the event '" + ev.getEvent().getTitle() + "' has been approved!")
+                        .type(Notification.NotificationType.SUCCESS)
+                        .build());
+            } else {
+                rejected.add(ev);
+                notifications.add(Notification.builder()
+                        .user(ev.getVolunteer())
+                        .title("Application Rejected")
+                        .message("Your application for '" + ev.getEvent().getTitle() + "' was not approved.")
+                        .type(Notification.NotificationType.ERROR)
+                        .build());
+            }
+        }
+        notificationService.createNotifications(notifications);
+        if (!rejected.isEmpty()) {
+            emailService.sendEventJoinRejectedEmails(rejected, reason);
+        }
+        eventsWithFreedSlots.forEach(eventCacheService::invalidate);
+        promoted.forEach(this::notifyPromoted);
+
+        List<BulkDecisionResultDTO.Item> ordered = ids.stream().map(results::get).toList();
+        int succeeded = (int) ordered.stream().filter(BulkDecisionResultDTO.Item::isSuccess).count();
+        return BulkDecisionResultDTO.builder()
+                .decision(request.getDecision())
+                .requested(ids.size())
+                .succeeded(succeeded)
+                .failed(ids.size() - succeeded)
+                .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                .results(ordered)
+                .build();
+    }
+
+    private static BulkDecisionResultDTO.Item failure(Long id, String message) {
+        return new BulkDecisionResultDTO.Item(id, false, "FAILED", message);
+    }
+
     @Override
     public void removeVolunteer(Long eventVolunteerId, Long organizerId) {
         EventVolunteer ev = eventVolunteerRepository.findById(eventVolunteerId)
@@ -148,8 +606,10 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
             throw new RuntimeException("Unauthorized");
         }
 
+        EventVolunteer.VolunteerStatus previousStatus = ev.getStatus();
         ev.setStatus(EventVolunteer.VolunteerStatus.REMOVED);
-        EventVolunteer saved = eventVolunteerRepository.save(ev);
+        EventVolunteer saved = saveAndFreeSlot(ev, previousStatus);
+        registrationsChanged(saved.getVolunteer().getId());
         emailService.sendEventJoinRejectedEmail(saved.getVolunteer(), saved.getEvent(),
                 "You have been removed from this event by the organizer.");
 
@@ -173,44 +633,526 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
     }
 
     @Override
-    public List<EventVolunteer> getOrganizerVolunteerRequests(Long organizerId) {
-        User organizer = userRepository.findById(organizerId)
-                .orElseThrow(() -> new RuntimeException("Organizer not found"));
-        return eventRepository.findByOrganizer(organizer).stream()
-                .flatMap(event -> eventVolunteerRepository
-                        .findByEventAndStatus(event, EventVolunteer.VolunteerStatus.PENDING).stream())
-                .toList();
+    public CursorPageDTO<VolunteerHistoryDTO> getVolunteerHistoryPage(Long volunteerId, String cursor, Integer size) {
+        if (!userRepository.existsById(volunteerId)) {
+            throw new RuntimeException("Volunteer not found");
+        }
+        int pageSize = size == null || size < 1 ? DEFAULT_HISTORY_PAGE_SIZE : Math.min(size, MAX_HISTORY_PAGE_SIZE);
+        KeysetCursor before = KeysetCursor.decode(cursor);
+
+        List<VolunteerHistoryDTO> rows = eventVolunteerRepository.findHistoryPage(volunteerId,
+                before != null ? before.getPosition() : INBOX_MAX_JOINED_AT,
+                before != null ? before.getId() : Long.MAX_VALUE,
+                PageRequest.ofSize(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<VolunteerHistoryDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        // Feedback for the whole page in one query instead of a collection fetch per row
+        if (!items.isEmpty()) {
+            Map<Long, VolunteerHistoryDTO> byId = items.stream()
+                    .collect(Collectors.toMap(VolunteerHistoryDTO::getId, Function.identity()));
+            for (Feedback feedback : feedbackRepository.findByEventVolunteerIdIn(byId.keySet())) {
+                byId.get(feedback.getEventVolunteer().getId()).getFeedbacks().add(new VolunteerHistoryDTO.FeedbackItem(
+                        feedback.getId(), feedback.getComment(), feedback.getRating(), feedback.getCreatedAt()));
+            }
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            VolunteerHistoryDTO last = items.get(items.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getJoinedAt(), last.getId());
+        }
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
+    @Override
+    public VersionStamp getVolunteerHistoryVersion(Long volunteerId) {
+        return eventVolunteerRepository.findHistoryVersion(volunteerId);
+    }
+
+    @Override
+    public CursorPageDTO<VolunteerRequestDTO> getOrganizerVolunteerRequests(Long organizerId, String status,
+            String cursor, Integer size, boolean newestFirst) {
+        if (!userRepository.existsById(organizerId)) {
+            throw new RuntimeException("Organizer not found");
+        }
+        EventVolunteer.VolunteerStatus requested;
+        try {
+            requested = status == null || status.isBlank() ? EventVolunteer.VolunteerStatus.PENDING
+                    : EventVolunteer.VolunteerStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid status: " + status);
+        }
+        int pageSize = size == null || size < 1 ? DEFAULT_INBOX_PAGE_SIZE : Math.min(size, MAX_INBOX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a count query
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<VolunteerRequestDTO> rows = newestFirst
+                ? eventVolunteerRepository.findOrganizerRequestsNewestFirst(organizerId, requested,
+                        after != null ? after.getPosition() : INBOX_MAX_JOINED_AT,
+                        after != null ? after.getId() : Long.MAX_VALUE, limit)
+                : eventVolunteerRepository.findOrganizerRequestsOldestFirst(organizerId, requested,
+                        after != null ? after.getPosition() : INBOX_MIN_JOINED_AT,
+                        after != null ? after.getId() : 0L, limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<VolunteerRequestDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            VolunteerRequestDTO last = items.get(items.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getJoinedAt(), last.getId());
+        }
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
     }
 
     @Override
     public EventVolunteer markAttendance(Long eventVolunteerId, Long organizerId, LocalDate date, boolean attended) {
-        EventVolunteer ev = eventVolunteerRepository.findById(eventVolunteerId)
+        // The ownership check reads the event before the transaction starts, so fetch it here
+        EventVolunteer ev = eventVolunteerRepository.findWithEventAndVolunteerByIdIn(List.of(eventVolunteerId))
+                .stream().findFirst()
                 .orElseThrow(() -> new RuntimeException("Volunteer request not found"));
 
         if (!ev.getEvent().getOrganizer().getId().equals(organizerId)) {
             throw new RuntimeException("Unauthorized: Only the event organizer can mark attendance");
         }
 
-        // Find existing attendance for this date or create new
-        Attendance attendance = attendanceRepository.findByEventVolunteerAndDate(ev, date)
-                .orElse(Attendance.builder()
-                        .eventVolunteer(ev)
-                        .date(date)
-                        .build());
+        // Row, counters, points and version move together; the registration lock orders
+        // concurrent marks of it, so each one reads the day as the previous one left it
+        EventVolunteer saved = transactionTemplate.execute(status -> {
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(COUNTER_LOCK_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", new Long[] { ev.getId() }));
+                return ps;
+            }, rs -> {
+            });
+
+            // Find existing attendance for this date or create new
+            Attendance attendance = attendanceRepository.findByEventVolunteerAndDate(ev, date)
+                    .orElse(Attendance.builder()
+                            .eventVolunteer(ev)
+                            .date(date)
+                            .build());
+
+            boolean alreadyPresent = attendance.getStatus() == Attendance.AttendanceStatus.PRESENT;
+            boolean newDay = attendance.getId() == null;
+            attendance.setStatus(attended ? Attendance.AttendanceStatus.PRESENT : Attendance.AttendanceStatus.ABSENT);
+            attendanceRepository.save(attendance);
+
+            int presentDelta = (attended ? 1 : 0) - (alreadyPresent ? 1 : 0);
+            int totalDelta = newDay ? 1 : 0;
+            if (presentDelta != 0 || totalDelta != 0) {
+                eventVolunteerRepository.adjustAttendanceCounters(ev.getId(), presentDelta, totalDelta);
+                ev.setPresentDays((ev.getPresentDays() != null ? ev.getPresentDays() : 0) + presentDelta);
+                ev.setTotalDays((ev.getTotalDays() != null ? ev.getTotalDays() : 0) + totalDelta);
+            }
+
+            // Points are per attended day; the ledger keeps a re-marked day from earning them again
+            if (attended && !alreadyPresent) {
+                ev.setStatus(EventVolunteer.VolunteerStatus.ATTENDED);
+                awardPoints(List.of(ev.getId()), List.of(Date.valueOf(date)), Timestamp.valueOf(LocalDateTime.now()));
+            }
+
+            // Attendance rows are part of the roster payload; bump the registration's version
+            ev.setUpdatedAt(LocalDateTime.now());
+            return eventVolunteerRepository.save(ev);
+        });
+        registrationsChanged(ev.getVolunteer().getId());
+        return saved;
+    }
 
-        attendance.setStatus(attended ? Attendance.AttendanceStatus.PRESENT : Attendance.AttendanceStatus.ABSENT);
-        attendanceRepository.save(attendance);
+    @Override
+    public RollCallResultDTO recordRollCall(Long eventId, Long organizerId, LocalDate date, Map<Long, Boolean> roster) {
+        long started = System.nanoTime();
+        if (date == null) {
+            throw new RuntimeException("Attendance date is required");
+        }
+        if (roster == null || roster.isEmpty()) {
+            throw new RuntimeException("Roster must not be empty");
+        }
+        if (roster.size() > MAX_ROLL_CALL) {
+            throw new RuntimeException("At most " + MAX_ROLL_CALL + " registrations per roll call");
+        }
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        if (!event.getOrganizer().getId().equals(organizerId)) {
+            throw new RuntimeException("Unauthorized: Only the event organizer can mark attendance");
+        }
+        if (event.getDateTime() != null) {
+            LocalDate firstDay = event.getDateTime().toLocalDate();
+            LocalDate lastDay = event.resolveEndDateTime().toLocalDate();
+            if (date.isBefore(firstDay) || date.isAfter(lastDay)) {
+                throw new RuntimeException("Attendance date must be between " + firstDay + " and " + lastDay);
+            }
+        }
 
-        if (attended) {
-            ev.setStatus(EventVolunteer.VolunteerStatus.ATTENDED);
+        Map<Long, Object[]> entries = eventVolunteerRepository.findRosterEntries(eventId, roster.keySet()).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+        List<RollCallResultDTO.Skipped> skipped = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        List<String> statuses = new ArrayList<>();
+        Map<Long, Long> volunteerByRegistration = new HashMap<>();
+        int present = 0;
+        for (Map.Entry<Long, Boolean> mark : roster.entrySet()) {
+            Object[] entry = entries.get(mark.getKey());
+            if (entry == null) {
+                skipped.add(new RollCallResultDTO.Skipped(mark.getKey(), "Registration not found for this event"));
+                continue;
+            }
+            EventVolunteer.VolunteerStatus status = (EventVolunteer.VolunteerStatus) entry[2];
+            if (status != EventVolunteer.VolunteerStatus.APPROVED && status != EventVolunteer.VolunteerStatus.ATTENDED) {
+                skipped.add(new RollCallResultDTO.Skipped(mark.getKey(), "Registration is " + status));
+            } else if (mark.getValue() == null) {
+                skipped.add(new RollCallResultDTO.Skipped(mark.getKey(), "Missing present/absent value"));
+            } else {
+                ids.add(mark.getKey());
+                statuses.add((mark.getValue() ? Attendance.AttendanceStatus.PRESENT : Attendance.AttendanceStatus.ABSENT).name());
+                volunteerByRegistration.put(mark.getKey(), (Long) entry[1]);
+                present += mark.getValue() ? 1 : 0;
+            }
+        }
 
-            // Award Points (e.g., 50 points per day attended)
-            User volunteer = ev.getVolunteer();
-            volunteer.setPoints((volunteer.getPoints() != null ? volunteer.getPoints() : 0) + 50);
-            userRepository.save(volunteer);
+        AttendanceWrite written = writeAttendance(date, ids, statuses, volunteerByRegistration);
+        for (Long id : written.dropped()) {
+            // Cancelled or removed between the roster read and the write
+            skipped.add(new RollCallResultDTO.Skipped(id, "Registration is no longer approved"));
+            present -= Boolean.TRUE.equals(roster.get(id)) ? 1 : 0;
         }
+        int marked = ids.size() - written.dropped().size();
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        logger.info("📋 Roll call for event {} on {}: {} marked, {} changed, {} newly present in {} ms",
+                eventId, date, marked, written.changed().size(), written.newlyPresent().size(), elapsedMs);
+        return RollCallResultDTO.builder()
+                .eventId(eventId)
+                .date(date)
+                .requested(roster.size())
+                .present(present)
+                .absent(marked - present)
+                .changed(written.changed().size())
+                .pointsAwarded(written.pointsAwarded())
+                .elapsedMs(elapsedMs)
+                .skipped(skipped)
+                .build();
+    }
 
-        return eventVolunteerRepository.save(ev);
+    @Override
+    public CheckInWrite recordCheckIns(LocalDate date, Map<Long, Long> volunteerByRegistration) {
+        if (volunteerByRegistration.isEmpty()) {
+            return new CheckInWrite(0, List.of());
+        }
+        List<Long> ids = new ArrayList<>(volunteerByRegistration.keySet());
+        List<String> statuses = Collections.nCopies(ids.size(), Attendance.AttendanceStatus.PRESENT.name());
+        AttendanceWrite written = writeAttendance(date, ids, statuses, volunteerByRegistration);
+        return new CheckInWrite(written.newlyPresent().size(), written.dropped());
+    }
+
+    @Override
+    public AttendanceSyncResultDTO syncAttendanceJournal(AttendanceSyncRequest request) {
+        long started = System.nanoTime();
+        if (request == null || request.getOrganizerId() == null) {
+            throw new RuntimeException("Organizer is required");
+        }
+        String deviceId = request.getDeviceId() != null ? request.getDeviceId().trim() : "";
+        if (deviceId.isEmpty() || deviceId.length() > 64) {
+            throw new RuntimeException("Device id is required and must be at most 64 characters");
+        }
+        List<AttendanceSyncRequest.Entry> entries = request.getEntries();
+        if (entries == null || entries.isEmpty()) {
+            throw new RuntimeException("Journal must not be empty");
+        }
+        if (entries.size() > MAX_JOURNAL_SYNC) {
+            throw new RuntimeException("At most " + MAX_JOURNAL_SYNC + " journal entries per sync");
+        }
+
+        LocalDateTime receivedAt = LocalDateTime.now();
+        LocalDateTime latestAllowed = receivedAt.plusMinutes(MAX_JOURNAL_CLOCK_SKEW_MINUTES);
+        Set<Long> registrationIds = entries.stream()
+                .map(AttendanceSyncRequest.Entry::getRegistrationId)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        Map<Long, Object[]> targets = registrationIds.isEmpty() ? Map.of()
+                : eventVolunteerRepository.findJournalTargets(registrationIds).stream()
+                        .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+
+        List<AttendanceSyncResultDTO.Rejected> rejected = new ArrayList<>();
+        Map<Long, AttendanceSyncRequest.Entry> accepted = new LinkedHashMap<>();
+        Map<Long, Long> volunteerByRegistration = new HashMap<>();
+        int duplicates = 0;
+        for (AttendanceSyncRequest.Entry entry : entries) {
+            String problem = null;
+            if (entry == null || entry.getSequence() == null || entry.getRegistrationId() == null
+                    || entry.getType() == null || entry.getOccurredAt() == null) {
+                problem = "Sequence, registration, type and time are required";
+            } else if (entry.getOccurredAt().isAfter(latestAllowed)) {
+                problem = "Entry time is in the future";
+            } else {
+                Object[] target = targets.get(entry.getRegistrationId());
+                problem = journalTargetProblem(target, request.getOrganizerId(), entry.getOccurredAt().toLocalDate());
+                if (problem == null) {
+                    volunteerByRegistration.put(entry.getRegistrationId(), (Long) target[1]);
+                }
+            }
+            if (problem != null) {
+                rejected.add(new AttendanceSyncResultDTO.Rejected(entry != null ? entry.getSequence() : null,
+                        entry != null ? entry.getRegistrationId() : null, problem));
+            } else if (accepted.putIfAbsent(entry.getSequence(), entry) != null) {
+                duplicates++;
+            }
+        }
+
+        JournalWrite written = writeJournal(request.getOrganizerId(), deviceId, receivedAt, new ArrayList<>(accepted.values()),
+                volunteerByRegistration);
+        duplicates += accepted.size() - written.applied();
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        logger.info("📥 Journal sync from device {}: {} received, {} applied, {} duplicates, {} rejected, "
+                + "{} newly present in {} ms", deviceId, entries.size(), written.applied(), duplicates,
+                rejected.size(), written.newlyPresent().size(), elapsedMs);
+        return AttendanceSyncResultDTO.builder()
+                .deviceId(deviceId)
+                .received(entries.size())
+                .applied(written.applied())
+                .duplicates(duplicates)
+                .newlyPresent(written.newlyPresent().size())
+                .pointsAwarded(written.pointsAwarded())
+                .elapsedMs(elapsedMs)
+                .rejected(rejected)
+                .build();
+    }
+
+    // target is [registration id, volunteer id, status, organizer id, event start, event end]
+    private String journalTargetProblem(Object[] target, Long organizerId, LocalDate day) {
+        if (target == null) {
+            return "Registration not found";
+        }
+        if (!organizerId.equals(target[3])) {
+            return "Unauthorized: Only the event organizer can sync attendance";
+        }
+        EventVolunteer.VolunteerStatus status = (EventVolunteer.VolunteerStatus) target[2];
+        if (status != EventVolunteer.VolunteerStatus.APPROVED && status != EventVolunteer.VolunteerStatus.ATTENDED) {
+            return "Registration is " + status;
+        }
+        LocalDateTime start = (LocalDateTime) target[4];
+        LocalDateTime end = (LocalDateTime) target[5];
+        if (start != null && (day.isBefore(start.toLocalDate()) || (end != null && day.isAfter(end.toLocalDate())))) {
+            return "Entry date is outside the event";
+        }
+        return null;
+    }
+
+    // Journal insert, last-writer-wins upsert, gate times, points and bump in one transaction
+    private JournalWrite writeJournal(Long organizerId, String deviceId, LocalDateTime receivedAt,
+            List<AttendanceSyncRequest.Entry> entries, Map<Long, Long> volunteerByRegistration) {
+        if (entries.isEmpty()) {
+            return new JournalWrite(0, List.of(), 0);
+        }
+        Timestamp now = Timestamp.valueOf(receivedAt);
+        List<Long> newlyPresent = new ArrayList<>();
+        List<Date> newlyPresentDays = new ArrayList<>();
+        int[] awarded = new int[1];
+        Integer applied = transactionTemplate.execute(status -> {
+            Set<Long> fresh = new HashSet<>();
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(JOURNAL_INSERT_SQL);
+                ps.setLong(1, organizerId);
+                ps.setString(2, deviceId);
+                ps.setTimestamp(3, now);
+                ps.setArray(4, con.createArrayOf("bigint",
+                        entries.stream().map(AttendanceSyncRequest.Entry::getSequence).toArray()));
+                ps.setArray(5, con.createArrayOf("bigint",
+                        entries.stream().map(AttendanceSyncRequest.Entry::getRegistrationId).toArray()));
+                ps.setArray(6, con.createArrayOf("varchar",
+                        entries.stream().map(e -> e.getType().name()).toArray()));
+                ps.setArray(7, con.createArrayOf("timestamp",
+                        entries.stream().map(e -> Timestamp.valueOf(e.getOccurredAt())).toArray()));
+                return ps;
+            }, rs -> {
+                fresh.add(rs.getLong(1));
+            });
+            if (fresh.isEmpty()) {
+                return 0;
+            }
+
+            // One row per volunteer day: any gate entry is proof of presence, the latest one decides conflicts
+            Map<List<Object>, GateDay> days = new LinkedHashMap<>();
+            for (AttendanceSyncRequest.Entry entry : entries) {
+                if (fresh.contains(entry.getSequence())) {
+                    LocalDate day = entry.getOccurredAt().toLocalDate();
+                    days.computeIfAbsent(List.of(entry.getRegistrationId(), day),
+                            key -> new GateDay(entry.getRegistrationId(), day)).add(entry);
+                }
+            }
+            List<GateDay> gateDays = new ArrayList<>(days.values());
+            CounterDeltas deltas = new CounterDeltas();
+            Object[] ids = gateDays.stream().map(GateDay::registrationId).toArray();
+            Object[] dates = gateDays.stream().map(d -> Date.valueOf(d.day())).toArray();
+            Object[] latest = gateDays.stream().map(d -> Timestamp.valueOf(d.latest)).toArray();
+
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(JOURNAL_PRESENT_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", ids));
+                ps.setArray(2, con.createArrayOf("date", dates));
+                ps.setArray(3, con.createArrayOf("timestamp", latest));
+                return ps;
+            }, rs -> {
+                newlyPresent.add(rs.getLong(1));
+                newlyPresentDays.add(rs.getDate(3));
+                deltas.add(rs.getLong(1), 1, rs.getBoolean(2) ? 1 : 0);
+            });
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(JOURNAL_TIMES_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", ids));
+                ps.setArray(2, con.createArrayOf("date", dates));
+                ps.setArray(3, con.createArrayOf("timestamp",
+                        gateDays.stream().map(d -> d.checkIn != null ? Timestamp.valueOf(d.checkIn) : null).toArray()));
+                ps.setArray(4, con.createArrayOf("timestamp",
+                        gateDays.stream().map(d -> d.checkOut != null ? Timestamp.valueOf(d.checkOut) : null).toArray()));
+                ps.setArray(5, con.createArrayOf("timestamp", latest));
+                return ps;
+            });
+
+            // Days that only gained gate times still bump their registration
+            for (GateDay day : gateDays) {
+                deltas.add(day.registrationId(), 0, 0);
+            }
+            awarded[0] = awardAttendance(deltas, newlyPresent, newlyPresentDays, now);
+            return fresh.size();
+        });
+        newlyPresent.stream().map(volunteerByRegistration::get).distinct().forEach(this::registrationsChanged);
+        return new JournalWrite(applied != null ? applied : 0, newlyPresent, awarded[0]);
+    }
+
+    // Upsert, points and registration bump in one transaction; shared by roll calls and gate scans
+    private AttendanceWrite writeAttendance(LocalDate date, List<Long> ids, List<String> statuses,
+            Map<Long, Long> volunteerByRegistration) {
+        List<Long> changed = new ArrayList<>();
+        List<Long> newlyPresent = new ArrayList<>();
+        List<Long> dropped = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return new AttendanceWrite(changed, newlyPresent, dropped, 0);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        CounterDeltas deltas = new CounterDeltas();
+        Integer awarded = transactionTemplate.execute(status -> {
+            // Same lock as a single mark, so the upsert's snapshot holds every earlier write of these days
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(COUNTER_LOCK_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+                return ps;
+            }, rs -> {
+            });
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(ROLL_CALL_UPSERT_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+                ps.setArray(2, con.createArrayOf("varchar", statuses.toArray()));
+                ps.setObject(3, date);
+                ps.setObject(4, date);
+                ps.setTimestamp(5, now);
+                return ps;
+            }, rs -> {
+                long id = rs.getLong(1);
+                if (rs.getString(2) == null) {
+                    dropped.add(id);
+                    return;
+                }
+                boolean present = Attendance.AttendanceStatus.PRESENT.name().equals(rs.getString(2));
+                boolean wasPresent = Attendance.AttendanceStatus.PRESENT.name().equals(rs.getString(4));
+                boolean inserted = rs.getBoolean(3);
+                changed.add(id);
+                if (present) {
+                    newlyPresent.add(id);
+                }
+                deltas.add(id, (present ? 1 : 0) - (wasPresent ? 1 : 0), inserted ? 1 : 0);
+            });
+
+            return awardAttendance(deltas, newlyPresent,
+                    Collections.nCopies(newlyPresent.size(), Date.valueOf(date)), now);
+        });
+        newlyPresent.stream().map(volunteerByRegistration::get).distinct().forEach(this::registrationsChanged);
+        return new AttendanceWrite(changed, newlyPresent, dropped, awarded != null ? awarded : 0);
+    }
+
+    // Runs inside the caller's transaction; returns the points actually awarded
+    private int awardAttendance(CounterDeltas deltas, List<Long> newlyPresent, List<Date> newlyPresentDays,
+            Timestamp now) {
+        int awarded = newlyPresent.isEmpty() ? 0 : awardPoints(newlyPresent, newlyPresentDays, now);
+        // Attendance rows are part of the roster payload; bump the registrations whose day changed
+        if (!deltas.ids.isEmpty()) {
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(ATTENDANCE_REGISTRATIONS_SQL);
+                ps.setTimestamp(1, now);
+                ps.setArray(2, con.createArrayOf("bigint", deltas.ids.toArray()));
+                ps.setArray(3, con.createArrayOf("int", deltas.present.toArray()));
+                ps.setArray(4, con.createArrayOf("int", deltas.total.toArray()));
+                return ps;
+            });
+        }
+        return awarded;
+    }
+
+    // Appends attendance awards to the ledger and credits the balances in one statement
+    private int awardPoints(List<Long> registrationIds, List<Date> days, Timestamp now) {
+        List<Integer> credited = jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(AWARD_POINTS_SQL);
+            ps.setInt(1, POINTS_PER_ATTENDED_DAY);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, con.createArrayOf("bigint", registrationIds.toArray()));
+            ps.setArray(4, con.createArrayOf("date", days.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getInt(1));
+        return credited.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private record AttendanceWrite(List<Long> changed, List<Long> newlyPresent, List<Long> dropped,
+            int pointsAwarded) {
+    }
+
+    private record JournalWrite(int applied, List<Long> newlyPresent, int pointsAwarded) {
+    }
+
+    // Per attendance row: how present_days and total_days of its registration move
+    private static final class CounterDeltas {
+        private final List<Long> ids = new ArrayList<>();
+        private final List<Integer> present = new ArrayList<>();
+        private final List<Integer> total = new ArrayList<>();
+
+        private void add(Long id, int presentDelta, int totalDelta) {
+            ids.add(id);
+            present.add(presentDelta);
+            total.add(totalDelta);
+        }
+    }
+
+    private static final class GateDay {
+        private final Long registrationId;
+        private final LocalDate day;
+        private LocalDateTime checkIn;
+        private LocalDateTime checkOut;
+        private LocalDateTime latest;
+
+        private GateDay(Long registrationId, LocalDate day) {
+            this.registrationId = registrationId;
+            this.day = day;
+        }
+
+        private Long registrationId() {
+            return registrationId;
+        }
+
+        private LocalDate day() {
+            return day;
+        }
+
+        private void add(AttendanceSyncRequest.Entry entry) {
+            LocalDateTime at = entry.getOccurredAt();
+            if (entry.getType() == AttendanceJournalEntry.EntryType.CHECK_IN) {
+                checkIn = checkIn == null || at.isAfter(checkIn) ? at : checkIn;
+            } else {
+                checkOut = checkOut == null || at.isAfter(checkOut) ? at : checkOut;
+            }
+            latest = latest == null || at.isAfter(latest) ? at : latest;
+        }
     }
 
     @Override
@@ -222,14 +1164,94 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
             throw new RuntimeException("Unauthorized: You can only cancel your own request");
         }
 
-        Event event = ev.getEvent();
-        if (ev.getStatus() == EventVolunteer.VolunteerStatus.APPROVED
-                || ev.getStatus() == EventVolunteer.VolunteerStatus.PENDING) {
-            event.setCurrentVolunteers(Math.max(0, event.getCurrentVolunteers() - 1));
-            eventRepository.save(event);
+        Long eventId = ev.getEvent().getId();
+        EventVolunteer.VolunteerStatus previousStatus = ev.getStatus();
+        Long promoted = transactionTemplate.execute(status -> {
+            eventVolunteerRepository.delete(ev);
+            return freeSlot(eventId, eventVolunteerId, previousStatus);
+        });
+        afterSlotFreed(eventId, previousStatus, promoted);
+        registrationsChanged(volunteerId);
+    }
+
+    @Override
+    public long getWaitlistPosition(Long eventVolunteerId, Long volunteerId) {
+        EventVolunteer ev = eventVolunteerRepository.findById(eventVolunteerId)
+                .orElseThrow(() -> new RuntimeException("Volunteer request not found"));
+        if (!ev.getVolunteer().getId().equals(volunteerId)) {
+            throw new RuntimeException("Unauthorized");
         }
+        return waitlistRepository.findByEventVolunteerId(eventVolunteerId)
+                .map(entry -> waitlistRepository.countByEventIdAndIdLessThanEqual(entry.getEventId(), entry.getId()))
+                .orElse(0L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.waitlist.sweep-interval-ms:60000}", initialDelayString = "${events.waitlist.sweep-interval-ms:60000}")
+    public void promoteWaitlistedVolunteers() {
+        try {
+            for (Long eventId : waitlistRepository.findEventIdsWithFreeCapacity()) {
+                while (promoteIfSlotFree(eventId) != null) {
+                    // keep filling until the event is full or its waitlist is empty
+                }
+            }
+        } catch (Exception e) {
+            logger.error("❌ Waitlist sweep failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.attendance-counters.reconcile-interval-ms:3600000}",
+            initialDelayString = "${events.attendance-counters.reconcile-interval-ms:3600000}")
+    public int reconcileAttendanceCounters() {
+        if (!schedulerLeaseService.isLeader(COUNTER_RECONCILE_LEASE)) {
+            return 0;
+        }
+        int repaired = 0;
+        try {
+            long cursor = 0;
+            while (true) {
+                Long upper = jdbcTemplate.queryForObject(COUNTER_CHUNK_SQL, Long.class, cursor, COUNTER_RECONCILE_CHUNK);
+                if (upper == null) {
+                    break;
+                }
+                // Cheap unlocked scan first; a concurrent write can look like drift, so it is re-checked under lock
+                List<Long> drifted = jdbcTemplate.queryForList(COUNTER_DRIFT_SQL, Long.class, cursor, upper, cursor, upper);
+                if (!drifted.isEmpty()) {
+                    repaired += repairAttendanceCounters(drifted);
+                }
+                cursor = upper;
+            }
+            if (repaired > 0) {
+                logger.warn("🧮 Repaired attendance counters on {} registrations", repaired);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Attendance counter reconciliation failed: {}", e.getMessage());
+        }
+        return repaired;
+    }
 
-        eventVolunteerRepository.delete(ev);
+    private int repairAttendanceCounters(List<Long> registrationIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> volunteerIds = transactionTemplate.execute(status -> {
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(COUNTER_LOCK_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", registrationIds.toArray()));
+                return ps;
+            }, rs -> {
+            });
+            return jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(COUNTER_REPAIR_SQL);
+                ps.setTimestamp(1, now);
+                ps.setArray(2, con.createArrayOf("bigint", registrationIds.toArray()));
+                return ps;
+            }, (rs, rowNum) -> rs.getLong(1));
+        });
+        if (volunteerIds == null) {
+            return 0;
+        }
+        volunteerIds.stream().distinct().forEach(this::registrationsChanged);
+        return volunteerIds.size();
     }
 
     @Override
@@ -248,7 +1270,9 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        return feedbackRepository.save(feedback);
+        Feedback saved = feedbackRepository.save(feedback);
+        touch(ev);
+        return saved;
     }
 
     @Override
@@ -262,7 +1286,9 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
 
         feedback.setComment(comment);
         feedback.setRating(rating);
-        return feedbackRepository.save(feedback);
+        Feedback saved = feedbackRepository.save(feedback);
+        touch(feedback.getEventVolunteer());
+        return saved;
     }
 
     @Override
@@ -275,6 +1301,7 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
         }
 
         feedbackRepository.delete(feedback);
+        touch(feedback.getEventVolunteer());
     }
 
     @Override
@@ -288,6 +1315,7 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
         }
 
         feedbackRepository.delete(feedback);
+        touch(feedback.getEventVolunteer());
     }
 
     @Override
@@ -299,23 +1327,21 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
             throw new RuntimeException("Unauthorized: Only the event organizer can issue certificates");
         }
 
-        // Calculate attendance percentage
-        long totalRecords = ev.getAttendanceRecords().size();
-        long presentRecords = ev.getAttendanceRecords().stream()
-                .filter(a -> a.getStatus() == Attendance.AttendanceStatus.PRESENT)
-                .count();
+        // Calculate attendance percentage from the registration's counters
+        long totalRecords = ev.getTotalDays() != null ? ev.getTotalDays() : 0;
+        long presentRecords = ev.getPresentDays() != null ? ev.getPresentDays() : 0;
 
-        // Check if volunteer has at least 75% attendance
+        // Check if volunteer has the minimum attendance
         if (totalRecords == 0) {
             throw new RuntimeException("Cannot issue certificate: No attendance records found");
         }
 
         double attendancePercentage = (presentRecords * 100.0) / totalRecords;
 
-        if (attendancePercentage < 75.0) {
+        if (attendancePercentage < CertificateService.MIN_ATTENDANCE_PERCENT) {
             throw new RuntimeException(String.format(
-                    "Cannot issue certificate: Volunteer attendance is %.1f%%, minimum required is 75%%",
-                    attendancePercentage));
+                    "Cannot issue certificate: Volunteer attendance is %.1f%%, minimum required is %.0f%%",
+                    attendancePercentage, CertificateService.MIN_ATTENDANCE_PERCENT));
         }
 
         // Also check ATTENDED status as fallback
@@ -350,4 +1376,153 @@ public class EventVolunteerServiceImpl implements EventVolunteerService {
         String certificateUrl = fileStorageService.storeCertificate(file, eventVolunteerId);
         return issueCertificate(eventVolunteerId, organizerId, certificateUrl);
     }
+
+    private static void checkJoinable(Event event) {
+        checkJoinable(event.getStatus(), event.getRegistrationOpenDateTime(), event.getRegistrationCloseDateTime());
+    }
+
+    private void recheckJoinable(Long eventId) {
+        Object[] window = eventRepository.findJoinWindow(eventId).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        checkJoinable((Event.EventStatus) window[0], (LocalDateTime) window[1], (LocalDateTime) window[2]);
+    }
+
+    private static void checkJoinable(Event.EventStatus status, LocalDateTime opensAt, LocalDateTime closesAt) {
+        if (status != Event.EventStatus.PUBLISHED) {
+            throw new RuntimeException("Cannot join non-published events");
+        }
+
+        // ✅ CHECK REGISTRATION WINDOW
+        LocalDateTime now = LocalDateTime.now();
+        if (opensAt != null && now.isBefore(opensAt)) {
+            throw new RuntimeException("Registration for this event has not opened yet");
+        }
+        if (closesAt != null && now.isAfter(closesAt)) {
+            throw new RuntimeException("Registration for this event is closed");
+        }
+    }
+
+    // Row locks on the volunteers, taken in id order so overlapping batches cannot deadlock
+    private void lockVolunteers(Long[] volunteerIds) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(VOLUNTEER_LOCK_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", volunteerIds));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    // Call with the volunteer locked. Every join evicts the schedule under that lock and keeps
+    // it uncached until it completes, so a cached schedule here already includes earlier joins.
+    private void checkNoConflicts(Long volunteerId, Event event) {
+        List<ScheduleConflictDTO> conflicts = scheduleConflictService.findConflicts(volunteerId,
+                event.getDateTime(), event.resolveEndDateTime(), event.getId());
+        if (!conflicts.isEmpty()) {
+            ScheduleConflictDTO first = conflicts.get(0);
+            throw new ScheduleConflictException("Schedule conflict: you are already registered for '" + first.getEventTitle()
+                    + "' (" + first.getStart() + " to " + first.getEnd() + ")");
+        }
+    }
+
+    // Registration sets feed recommendations and the conflict index
+    private void registrationsChanged(Long volunteerId) {
+        recommendationService.markVolunteerChanged(volunteerId);
+        scheduleConflictService.evictVolunteer(volunteerId);
+    }
+
+    // Feedback lives inside roster and history payloads, so changes must move the registration's version
+    private void touch(EventVolunteer ev) {
+        eventVolunteerRepository.touch(ev.getId(), LocalDateTime.now());
+    }
+
+    // PENDING, APPROVED and ATTENDED registrations count against requiredVolunteers
+    private static boolean holdsSlot(EventVolunteer.VolunteerStatus status) {
+        return status == EventVolunteer.VolunteerStatus.PENDING
+                || status == EventVolunteer.VolunteerStatus.APPROVED
+                || status == EventVolunteer.VolunteerStatus.ATTENDED;
+    }
+
+    // Persist a status change that takes a registration out of the event and free whatever it held
+    private EventVolunteer saveAndFreeSlot(EventVolunteer ev, EventVolunteer.VolunteerStatus previousStatus) {
+        Long eventId = ev.getEvent().getId();
+        Long[] promoted = new Long[1];
+        EventVolunteer saved = transactionTemplate.execute(status -> {
+            EventVolunteer updated = eventVolunteerRepository.save(ev);
+            promoted[0] = freeSlot(eventId, ev.getId(), previousStatus);
+            return updated;
+        });
+        afterSlotFreed(eventId, previousStatus, promoted[0]);
+        return saved;
+    }
+
+    // Runs inside the caller's transaction. A held slot passes straight to the waitlist head
+    // (one indexed row, skipping heads other releases have locked) and is only returned to
+    // the pool when nobody is waiting. Returns the promoted registration id, if any.
+    private Long freeSlot(Long eventId, Long eventVolunteerId, EventVolunteer.VolunteerStatus previousStatus) {
+        if (previousStatus == EventVolunteer.VolunteerStatus.WAITLISTED) {
+            waitlistRepository.deleteByEventVolunteerId(eventVolunteerId);
+            return null;
+        }
+        if (!holdsSlot(previousStatus)) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Optional<WaitlistEntry> head = waitlistRepository.lockHead(eventId);
+        if (head.isPresent()) {
+            return promote(head.get(), now);
+        }
+        eventRepository.releaseSlot(eventId, now);
+        return null;
+    }
+
+    private Long promote(WaitlistEntry entry, LocalDateTime now) {
+        Long eventVolunteerId = entry.getEventVolunteer().getId();
+        waitlistRepository.delete(entry);
+        eventVolunteerRepository.promoteFromWaitlist(eventVolunteerId, now);
+        return eventVolunteerId;
+    }
+
+    private void afterSlotFreed(Long eventId, EventVolunteer.VolunteerStatus previousStatus, Long promotedId) {
+        if (holdsSlot(previousStatus)) {
+            eventCacheService.invalidate(eventId);
+        }
+        if (promotedId != null) {
+            notifyPromoted(promotedId);
+        }
+    }
+
+    // Takes a free slot for the waitlist head, if there is both a head and a slot
+    private Long promoteIfSlotFree(Long eventId) {
+        Long promoted = transactionTemplate.execute(status -> {
+            Optional<WaitlistEntry> head = waitlistRepository.lockHead(eventId);
+            LocalDateTime now = LocalDateTime.now();
+            if (head.isEmpty() || eventRepository.reserveSlot(eventId, now) == 0) {
+                return null;
+            }
+            return promote(head.get(), now);
+        });
+        if (promoted != null) {
+            eventCacheService.invalidate(eventId);
+            notifyPromoted(promoted);
+        }
+        return promoted;
+    }
+
+    private void notifyPromoted(Long eventVolunteerId) {
+        transactionTemplate.executeWithoutResult(status -> eventVolunteerRepository.findById(eventVolunteerId)
+                .ifPresent(ev -> {
+                    registrationsChanged(ev.getVolunteer().getId());
+                    notificationService.createNotification(
+                            ev.getVolunteer(),
+                            "Promoted from Waitlist",
+                            "A spot opened up in '" + ev.getEvent().getTitle()
+                                    + "'. Your application is now pending organizer review.",
+                            Notification.NotificationType.SUCCESS);
+                    notificationService.createNotification(
+                            ev.getEvent().getOrganizer(),
+                            "New Join Request",
+                            ev.getVolunteer().getName() + " moved up from the waitlist for '"
+                                    + ev.getEvent().getTitle() + "'.",
+                            Notification.NotificationType.INFO);
+                }));
+    }
 }
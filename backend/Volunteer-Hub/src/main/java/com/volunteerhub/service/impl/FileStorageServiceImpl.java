@@ -77,6 +77,26 @@ public class FileStorageServiceImpl implements FileStorageService {
         return "certificates/" + uniqueFilename;
     }
 
+    @Override
+    public String storeCertificate(byte[] pdf, Long registrationId) throws IOException {
+        if (pdf == null || pdf.length == 0 || pdf.length > MAX_FILE_SIZE) {
+            throw new IOException("Invalid certificate size");
+        }
+
+        String uniqueFilename = "CERT_" + registrationId + "_" + UUID.randomUUID().toString() + ".pdf";
+        Path certPath = uploadPath.resolve("certificates");
+        // Written aside and moved into place so a download never sees a half-written file
+        Path temp = Files.createTempFile(certPath, "CERT_", ".part");
+        try {
+            Files.write(temp, pdf);
+            Files.move(temp, certPath.resolve(uniqueFilename), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return "certificates/" + uniqueFilename;
+    }
+
     @Override
     public Resource loadFileAsResource(String fileName) throws IOException {
         try {
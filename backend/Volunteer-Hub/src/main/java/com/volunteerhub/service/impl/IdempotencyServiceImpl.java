@@ -0,0 +1,121 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.model.IdempotencyRecord;
+import com.volunteerhub.repository.IdempotencyRecordRepository;
+import com.volunteerhub.service.IdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Completed responses are kept in a bounded LRU in front of the
+ * idempotency_keys table. The table is the source of truth: it holds the
+ * claim that stops two copies of a request running at once, and it answers
+ * retries that land on another instance or arrive after eviction.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final Map<String, CachedResponse> recent;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.memory-max-entries:10000}") int maxEntries) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Claim begin(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        CachedResponse cached = cached(key, now);
+        if (cached != null) {
+            return cached.fingerprint().equals(fingerprint)
+                    ? new Claim(Outcome.REPLAY, cached.response())
+                    : new Claim(Outcome.MISMATCH, null);
+        }
+        if (idempotencyRecordRepository.claim(key, fingerprint, now, now.plus(ttl)) == 1) {
+            return new Claim(Outcome.PROCEED, null);
+        }
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(key);
+        if (existing.isEmpty()) {
+            // Released or purged between the two statements
+            return idempotencyRecordRepository.claim(key, fingerprint, now, now.plus(ttl)) == 1
+                    ? new Claim(Outcome.PROCEED, null)
+                    : new Claim(Outcome.IN_PROGRESS, null);
+        }
+        IdempotencyRecord record = existing.get();
+        if (!record.getFingerprint().equals(fingerprint)) {
+            return new Claim(Outcome.MISMATCH, null);
+        }
+        if (record.getStatusCode() == null) {
+            return new Claim(Outcome.IN_PROGRESS, null);
+        }
+        StoredResponse response = new StoredResponse(record.getStatusCode(), record.getContentType(),
+                record.getBody() != null ? record.getBody() : new byte[0]);
+        remember(key, new CachedResponse(fingerprint, response, record.getExpiresAt()));
+        return new Claim(Outcome.REPLAY, response);
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        idempotencyRecordRepository.complete(key, response.status(), response.contentType(), response.body());
+        remember(key, new CachedResponse(fingerprint, response, LocalDateTime.now().plus(ttl)));
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyRecordRepository.release(key);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = idempotencyRecordRepository.deleteExpired(now);
+        synchronized (recent) {
+            recent.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        }
+        if (removed > 0) {
+            logger.info("🧹 Purged {} expired idempotency key(s)", removed);
+        }
+    }
+
+    private CachedResponse cached(String key, LocalDateTime now) {
+        synchronized (recent) {
+            CachedResponse entry = recent.get(key);
+            if (entry != null && entry.expiresAt().isBefore(now)) {
+                recent.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void remember(String key, CachedResponse entry) {
+        synchronized (recent) {
+            recent.put(key, entry);
+        }
+    }
+
+    private record CachedResponse(String fingerprint, StoredResponse response, LocalDateTime expiresAt) {
+    }
+}
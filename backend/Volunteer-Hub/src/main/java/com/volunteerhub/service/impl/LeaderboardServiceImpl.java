@@ -0,0 +1,241 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.LeaderboardDTO;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.service.LeaderboardService;
+import com.volunteerhub.util.RankTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardServiceImpl.class);
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+    private static final int POLL_BATCH = 5000;
+
+    private static final String MAX_LEDGER_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM points_ledger";
+    private static final String BALANCES_SQL = "SELECT id, COALESCE(points, 0) FROM users WHERE role = 'VOLUNTEER'";
+    private static final String SCOPED_TOTALS_SQL = "SELECT l.user_id, e.city, e.category, SUM(l.points) "
+            + "FROM points_ledger l JOIN users u ON u.id = l.user_id AND u.role = 'VOLUNTEER' "
+            + "JOIN events e ON e.id = l.event_id WHERE l.id <= ? GROUP BY l.user_id, e.city, e.category";
+    private static final String TAIL_SQL = "SELECT l.id, l.user_id, l.points, e.city, e.category, l.created_at "
+            + "FROM points_ledger l JOIN users u ON u.id = l.user_id AND u.role = 'VOLUNTEER' "
+            + "LEFT JOIN events e ON e.id = l.event_id WHERE l.id > ? ORDER BY l.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    // Balances and ledger totals must come from one snapshot, or the tail would count rows twice
+    private final TransactionTemplate snapshotTemplate;
+
+    // Replaced wholesale on rebuild; polls apply to whichever boards are current
+    private volatile Boards boards = new Boards();
+    // Highest ledger id reflected in the boards; guarded by this
+    private long highWater;
+    // How old a ledger row must be before the tail moves past it
+    private final Duration tailLag;
+
+    public LeaderboardServiceImpl(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${leaderboard.tail-lag-seconds:5}") long tailLagSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.tailLag = Duration.ofSeconds(tailLagSeconds);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public LeaderboardDTO getLeaderboard(String city, String category, Integer limit, Long userId) {
+        boolean byCity = city != null && !city.isBlank();
+        boolean byCategory = category != null && !category.isBlank();
+        if (byCity && byCategory) {
+            throw new RuntimeException("Choose either a city or a category leaderboard");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new RuntimeException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Boards current = boards;
+        Scoreboard board = byCity ? current.cities.get(key(city))
+                : byCategory ? current.categories.get(key(category))
+                : current.global;
+        Standings standings = board != null ? board.standings(size, userId) : Standings.EMPTY;
+
+        Set<Long> ids = new LinkedHashSet<>();
+        standings.top.forEach(row -> ids.add(row[1]));
+        if (userId != null) {
+            ids.add(userId);
+        }
+        Map<Long, String> names = ids.isEmpty() ? Map.of() : userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, user -> user.getName() != null ? user.getName() : ""));
+
+        List<LeaderboardDTO.Entry> entries = new ArrayList<>(standings.top.size());
+        int rank = 0;
+        long previousScore = Long.MIN_VALUE;
+        for (int i = 0; i < standings.top.size(); i++) {
+            long[] row = standings.top.get(i);
+            if (row[0] != previousScore) {
+                rank = i + 1;
+                previousScore = row[0];
+            }
+            entries.add(new LeaderboardDTO.Entry(rank, row[1], names.get(row[1]), row[0]));
+        }
+        LeaderboardDTO.Entry me = userId != null && names.containsKey(userId)
+                ? new LeaderboardDTO.Entry(standings.myRank, userId, names.get(userId), standings.myScore)
+                : null;
+
+        return LeaderboardDTO.builder()
+                .scope(byCity ? "CITY" : byCategory ? "CATEGORY" : "GLOBAL")
+                .value(byCity ? city.trim() : byCategory ? category.trim() : null)
+                .participants(standings.participants)
+                .entries(entries)
+                .me(me)
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${leaderboard.poll-interval-ms:2000}",
+            initialDelayString = "${leaderboard.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        try {
+            Boards current = boards;
+            // Ledger ids are taken before commit, so a transaction still in flight can hold an id below
+            // rows already visible. Stopping at the first recent row keeps the tail behind such gaps.
+            LocalDateTime settled = LocalDateTime.now().minus(tailLag);
+            boolean caughtUp = false;
+            while (!caughtUp) {
+                List<Object[]> rows = jdbcTemplate.query(TAIL_SQL, (rs, rowNum) -> new Object[] {
+                        rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getString(4), rs.getString(5),
+                        rs.getTimestamp(6).toLocalDateTime() }, highWater, POLL_BATCH);
+                for (Object[] row : rows) {
+                    if (!((LocalDateTime) row[5]).isBefore(settled)) {
+                        caughtUp = true;
+                        break;
+                    }
+                    current.add((Long) row[1], (Long) row[2], (String) row[3], (String) row[4]);
+                    highWater = (Long) row[0];
+                }
+                caughtUp |= rows.size() < POLL_BATCH;
+            }
+        } catch (Exception e) {
+            logger.error("❌ Leaderboard poll failed: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // A transaction slower than the tail lag can still land below the high-water mark
+    // after a poll moved past it; the periodic rebuild picks those up
+    @Override
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}",
+            initialDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        try {
+            long started = System.nanoTime();
+            Boards fresh = new Boards();
+            Long maxId = snapshotTemplate.execute(status -> {
+                long max = jdbcTemplate.queryForObject(MAX_LEDGER_ID_SQL, Long.class);
+                jdbcTemplate.query(BALANCES_SQL, rs -> {
+                    fresh.global.add(rs.getLong(1), rs.getLong(2));
+                });
+                jdbcTemplate.query(SCOPED_TOTALS_SQL, rs -> {
+                    fresh.addScoped(rs.getLong(1), rs.getLong(4), rs.getString(2), rs.getString(3));
+                }, max);
+                return max;
+            });
+            boards = fresh;
+            highWater = maxId != null ? maxId : 0;
+            logger.info("🏆 Leaderboards rebuilt: {} volunteers, {} cities, {} categories in {} ms",
+                    fresh.global.size(), fresh.cities.size(), fresh.categories.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("❌ Leaderboard rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Boards {
+        private final Scoreboard global = new Scoreboard();
+        private final Map<String, Scoreboard> cities = new ConcurrentHashMap<>();
+        private final Map<String, Scoreboard> categories = new ConcurrentHashMap<>();
+
+        private void add(Long userId, long points, String city, String category) {
+            global.add(userId, points);
+            addScoped(userId, points, city, category);
+        }
+
+        private void addScoped(Long userId, long points, String city, String category) {
+            Function<String, Scoreboard> create = k -> new Scoreboard();
+            if (city != null && !city.isBlank()) {
+                cities.computeIfAbsent(key(city), create).add(userId, points);
+            }
+            if (category != null && !category.isBlank()) {
+                categories.computeIfAbsent(key(category), create).add(userId, points);
+            }
+        }
+    }
+
+    // Points per volunteer plus the same pairs in rank order
+    private static final class Scoreboard {
+        private final Map<Long, Long> scores = new HashMap<>();
+        private final RankTree ranking = new RankTree();
+
+        private synchronized void add(Long userId, long points) {
+            Long previous = scores.get(userId);
+            if (previous != null) {
+                ranking.remove(previous, userId);
+            }
+            long next = (previous != null ? previous : 0) + points;
+            scores.put(userId, next);
+            ranking.insert(next, userId);
+        }
+
+        private synchronized int size() {
+            return scores.size();
+        }
+
+        private synchronized Standings standings(int limit, Long userId) {
+            long myScore = userId != null ? scores.getOrDefault(userId, 0L) : 0;
+            int myRank = userId != null ? ranking.countAbove(myScore) + 1 : 0;
+            return new Standings(ranking.top(limit), scores.size(), myScore, myRank);
+        }
+    }
+
+    private record Standings(List<long[]> top, int participants, long myScore, int myRank) {
+        private static final Standings EMPTY = new Standings(List.of(), 0, 0, 1);
+    }
+}
@@ -0,0 +1,427 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.EventSummaryDTO;
+import com.volunteerhub.model.EventVolunteer;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.EventRecommendationRepository;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.repository.EventVolunteerRepository;
+import com.volunteerhub.repository.UserRepository;
+import com.volunteerhub.service.RecommendationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationServiceImpl.class);
+
+    // Score weights; the vacancy terms give brand-new volunteers a sensible cold start
+    private static final double CATEGORY_WEIGHT = 0.35;
+    private static final double CITY_WEIGHT = 0.25;
+    private static final double SKILL_WEIGHT = 0.25;
+    private static final double EXPERIENCE_WEIGHT = 0.10;
+    private static final double VACANCY_WEIGHT = 0.05;
+    private static final int WRITE_CHUNK = 200;
+    private static final int PROFILE_CHUNK = 1000;
+
+    private static final String DELETE_USER_SQL = "DELETE FROM event_recommendations WHERE user_id = ?";
+    private static final String DELETE_EVENTS_SQL = "DELETE FROM event_recommendations WHERE event_id = ANY (?) "
+            + "RETURNING user_id";
+    // Volunteers with a weighted registration sharing a category, city or skill with a changed event. A full
+    // list with nothing in common can only gain on the small experience and vacancy terms; the full refresh covers those
+    private static final String AFFECTED_SQL = "SELECT DISTINCT ev.volunteer_id FROM event_volunteers ev "
+            + "WHERE ev.status IN ('PENDING', 'APPROVED', 'ATTENDED') AND ev.event_id IN (SELECT e.id FROM events e "
+            + "WHERE lower(trim(e.category)) = ANY (?) OR lower(trim(e.city)) = ANY (?) OR EXISTS (SELECT 1 FROM "
+            + "regexp_split_to_table(e.skills_required, '[,;/|]') AS s(token) WHERE lower(trim(s.token)) = ANY (?)))";
+    // With fewer open events than topK + registrations a volunteer's list is not full and takes any new event
+    private static final String UNFILLED_SQL = "SELECT ev.volunteer_id FROM event_volunteers ev "
+            + "WHERE ev.event_id = ANY (?) GROUP BY ev.volunteer_id HAVING COUNT(*) > ?";
+    private static final String RECOMMENDED_USERS_SQL = "SELECT DISTINCT user_id FROM event_recommendations";
+    private static final String THRESHOLDS_SQL = "SELECT user_id, COUNT(*), MIN(score) FROM event_recommendations "
+            + "WHERE user_id = ANY (?) GROUP BY user_id";
+    private static final String UPSERT_SQL = "INSERT INTO event_recommendations (user_id, event_id, score, computed_at) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT (user_id, event_id) "
+            + "DO UPDATE SET score = EXCLUDED.score, computed_at = EXCLUDED.computed_at";
+    private static final String TRIM_SQL = "DELETE FROM event_recommendations WHERE id IN ("
+            + "SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY score DESC, event_id) AS rn "
+            + "FROM event_recommendations WHERE user_id = ANY (?)) ranked WHERE rn > ?)";
+
+    private final EventRecommendationRepository recommendationRepository;
+    private final EventRepository eventRepository;
+    private final EventVolunteerRepository eventVolunteerRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int topK;
+
+    private final Set<Long> changedEvents = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedVolunteers = ConcurrentHashMap.newKeySet();
+
+    public RecommendationServiceImpl(EventRecommendationRepository recommendationRepository,
+            EventRepository eventRepository, EventVolunteerRepository eventVolunteerRepository,
+            UserRepository userRepository, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${recommendations.top-k:20}") int topK) {
+        this.recommendationRepository = recommendationRepository;
+        this.eventRepository = eventRepository;
+        this.eventVolunteerRepository = eventVolunteerRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topK = topK;
+    }
+
+    @Override
+    public List<EventSummaryDTO> getRecommendations(Long volunteerId) {
+        if (!userRepository.existsById(volunteerId)) {
+            throw new RuntimeException("Volunteer not found");
+        }
+        if (!recommendationRepository.existsByUserId(volunteerId)) {
+            try {
+                rescoreVolunteers(Set.of(volunteerId), loadCandidates());
+            } catch (DataAccessException e) {
+                // A concurrent refresh is writing the same user; serve whatever it leaves behind
+                logger.warn("⚠️ On-demand recommendations for {} skipped: {}", volunteerId, e.getMessage());
+            }
+        }
+        return recommendationRepository.findRecommendedSummaries(volunteerId, LocalDateTime.now());
+    }
+
+    @Override
+    public void markEventChanged(Long eventId) {
+        changedEvents.add(eventId);
+    }
+
+    @Override
+    public void markVolunteerChanged(Long volunteerId) {
+        changedVolunteers.add(volunteerId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${recommendations.refresh-interval-ms:3600000}", initialDelayString = "${recommendations.initial-delay-ms:60000}")
+    public void refreshAll() {
+        try {
+            long started = System.currentTimeMillis();
+            // Anything queued so far is covered by the full pass
+            changedEvents.clear();
+            changedVolunteers.clear();
+            List<Candidate> candidates = loadCandidates();
+            Map<Long, Profile> profiles = loadProfiles(null);
+            writeTopK(profiles.values(), candidates);
+            logger.info("🎯 Recommendations refreshed for {} volunteers over {} events in {} ms",
+                    profiles.size(), candidates.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("❌ Recommendation refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${recommendations.incremental-interval-ms:30000}", initialDelayString = "${recommendations.incremental-interval-ms:30000}")
+    public void processPendingChanges() {
+        Set<Long> volunteers = drain(changedVolunteers);
+        Set<Long> events = drain(changedEvents);
+        if (volunteers.isEmpty() && events.isEmpty()) {
+            return;
+        }
+        try {
+            List<Candidate> candidates = loadCandidates();
+            Set<Long> recompute = new HashSet<>(volunteers);
+            if (!events.isEmpty()) {
+                recompute.addAll(rescoreEvents(events, candidates, volunteers));
+            }
+            // After the event pass, so its deletes cannot undo a fresh recompute
+            if (!recompute.isEmpty()) {
+                rescoreVolunteers(recompute, candidates);
+            }
+        } catch (Exception e) {
+            // Put the work back so the next pass retries it
+            changedVolunteers.addAll(volunteers);
+            changedEvents.addAll(events);
+            logger.error("❌ Incremental recommendation update failed: {}", e.getMessage());
+        }
+    }
+
+    // Full top-K recompute for a handful of volunteers
+    private void rescoreVolunteers(Set<Long> volunteerIds, List<Candidate> candidates) {
+        Map<Long, Profile> profiles = loadProfiles(volunteerIds);
+        writeTopK(profiles.values(), candidates);
+    }
+
+    // Score only the changed events against the volunteers they can matter to and merge them into
+    // existing top-K rows. Returns the volunteers that lost a row and need a full recompute.
+    private Set<Long> rescoreEvents(Set<Long> eventIds, List<Candidate> allCandidates, Set<Long> recomputed) {
+        List<Candidate> changed = allCandidates.stream().filter(c -> eventIds.contains(c.id)).toList();
+        Map<Long, double[]> thresholds = new HashMap<>();
+        Set<Long> holders = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        int affected = transactionTemplate.execute(status -> {
+            jdbcTemplate.query(DELETE_EVENTS_SQL, rs -> {
+                holders.add(rs.getLong(1));
+            }, (Object) eventIds.toArray(Long[]::new));
+            if (changed.isEmpty()) {
+                return 0;
+            }
+
+            Set<Long> volunteerIds = new HashSet<>(jdbcTemplate.queryForList(AFFECTED_SQL, Long.class,
+                    changed.stream().map(Candidate::category).filter(v -> v != null).distinct().toArray(String[]::new),
+                    changed.stream().map(Candidate::city).filter(v -> v != null).distinct().toArray(String[]::new),
+                    changed.stream().flatMap(c -> c.skills().stream()).distinct().toArray(String[]::new)));
+            Long[] open = allCandidates.stream().filter(c -> c.required() <= 0 || c.current() < c.required())
+                    .map(Candidate::id).toArray(Long[]::new);
+            int slack = open.length - topK;
+            volunteerIds.addAll(slack < 0 ? jdbcTemplate.queryForList(RECOMMENDED_USERS_SQL, Long.class)
+                    : jdbcTemplate.queryForList(UNFILLED_SQL, Long.class, open, slack));
+            // Holders get a full recompute afterwards, which also refills the slot the event left
+            volunteerIds.removeAll(holders);
+            volunteerIds.removeAll(recomputed);
+            if (volunteerIds.isEmpty()) {
+                return 0;
+            }
+            Map<Long, Profile> profiles = loadProfiles(volunteerIds);
+            jdbcTemplate.query(THRESHOLDS_SQL, rs -> {
+                thresholds.put(rs.getLong(1), new double[] { rs.getLong(2), rs.getDouble(3) });
+            }, (Object) profiles.keySet().toArray(Long[]::new));
+
+            List<Object[]> rows = new ArrayList<>();
+            Set<Long> touchedUsers = new HashSet<>();
+            for (Profile profile : profiles.values()) {
+                double[] threshold = thresholds.get(profile.userId);
+                for (Candidate candidate : changed) {
+                    if (!candidate.eligibleFor(profile)) {
+                        continue;
+                    }
+                    double score = score(profile, candidate);
+                    if (threshold == null || threshold[0] < topK || score > threshold[1]) {
+                        rows.add(new Object[] { profile.userId, candidate.id, score, Timestamp.valueOf(now) });
+                        touchedUsers.add(profile.userId);
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+                trim(touchedUsers);
+            }
+            return profiles.size();
+        });
+        logger.info("🎯 Re-scored {} changed events ({} still eligible) for {} volunteers; {} lost a row",
+                eventIds.size(), changed.size(), affected, holders.size());
+        return holders;
+    }
+
+    private void writeTopK(Collection<Profile> profiles, List<Candidate> candidates) {
+        List<Profile> ordered = new ArrayList<>(profiles);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ordered.size(); from += WRITE_CHUNK) {
+            List<Profile> chunk = ordered.subList(from, Math.min(from + WRITE_CHUNK, ordered.size()));
+            List<Object[]> rows = new ArrayList<>();
+            for (Profile profile : chunk) {
+                for (Scored scored : topK(profile, candidates)) {
+                    rows.add(new Object[] { profile.userId, scored.eventId, scored.score, Timestamp.valueOf(now) });
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(DELETE_USER_SQL, chunk, chunk.size(), (ps, p) -> ps.setLong(1, p.userId));
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+                }
+            });
+        }
+    }
+
+    private List<Scored> topK(Profile profile, List<Candidate> candidates) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+        for (Candidate candidate : candidates) {
+            if (!candidate.eligibleFor(profile)) {
+                continue;
+            }
+            double score = score(profile, candidate);
+            if (heap.size() < topK) {
+                heap.add(new Scored(candidate.id, score));
+            } else if (score > heap.peek().score) {
+                heap.poll();
+                heap.add(new Scored(candidate.id, score));
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+
+    private void trim(Set<Long> userIds) {
+        jdbcTemplate.update(TRIM_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", userIds.toArray()));
+            ps.setInt(2, topK);
+        });
+    }
+
+    static double score(Profile profile, Candidate candidate) {
+        double category = profile.categoryTotal > 0
+                ? profile.categories.getOrDefault(candidate.category, 0.0) / profile.categoryTotal : 0;
+        double city = profile.cityTotal > 0 ? profile.cities.getOrDefault(candidate.city, 0.0) / profile.cityTotal : 0;
+        double skills = jaccard(profile.skills, candidate.skills);
+        double experience = profile.points / (profile.points + 200.0);
+        double vacancy = candidate.required > 0
+                ? 1.0 - Math.min(1.0, (double) candidate.current / candidate.required) : 0.5;
+        return CATEGORY_WEIGHT * category + CITY_WEIGHT * city + SKILL_WEIGHT * skills
+                + EXPERIENCE_WEIGHT * experience * vacancy + VACANCY_WEIGHT * vacancy;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String token : b) {
+            if (a.contains(token)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private List<Candidate> loadCandidates() {
+        List<Candidate> candidates = new ArrayList<>();
+        for (Object[] row : eventRepository.findRecommendationCandidates(LocalDateTime.now())) {
+            candidates.add(new Candidate((Long) row[0], normalize((String) row[1]), normalize((String) row[2]),
+                    tokens((String) row[3]), row[4] != null ? (Integer) row[4] : 0, row[5] != null ? (Integer) row[5] : 0));
+        }
+        return candidates;
+    }
+
+    // volunteerIds == null loads every volunteer
+    private Map<Long, Profile> loadProfiles(Set<Long> volunteerIds) {
+        Map<Long, Profile> profiles = new HashMap<>();
+        if (volunteerIds == null) {
+            addProfiles(profiles, userRepository.findIdAndPointsByRole(User.Role.VOLUNTEER),
+                    eventVolunteerRepository::findHistoryFeatures);
+            return profiles;
+        }
+        // Bounded IN lists; a popular event can touch thousands of volunteers
+        List<Long> ids = new ArrayList<>(volunteerIds);
+        for (int from = 0; from < ids.size(); from += PROFILE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + PROFILE_CHUNK, ids.size()));
+            Map<Long, Profile> loaded = new HashMap<>();
+            addProfiles(loaded, userRepository.findIdAndPointsByRoleAndIdIn(User.Role.VOLUNTEER, chunk),
+                    () -> eventVolunteerRepository.findHistoryFeaturesByVolunteerIdIn(loaded.keySet()));
+            profiles.putAll(loaded);
+        }
+        return profiles;
+    }
+
+    private static void addProfiles(Map<Long, Profile> profiles, List<Object[]> users,
+            Supplier<List<Object[]>> historyLoader) {
+        for (Object[] row : users) {
+            Long id = (Long) row[0];
+            profiles.put(id, new Profile(id, row[1] != null ? (Integer) row[1] : 0));
+        }
+        if (profiles.isEmpty()) {
+            return;
+        }
+
+        for (Object[] row : historyLoader.get()) {
+            Profile profile = profiles.get((Long) row[0]);
+            if (profile != null) {
+                profile.add((Long) row[1], normalize((String) row[2]), normalize((String) row[3]),
+                        tokens((String) row[4]), (EventVolunteer.VolunteerStatus) row[5]);
+            }
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> queue) {
+        Set<Long> drained = new HashSet<>();
+        for (Long id : queue) {
+            if (queue.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> tokens(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(skills.split("[,;/|]"))
+                .map(RecommendationServiceImpl::normalize)
+                .filter(token -> token != null)
+                .collect(Collectors.toSet());
+    }
+
+    static final class Profile {
+        final Long userId;
+        final int points;
+        final Map<String, Double> categories = new HashMap<>();
+        final Map<String, Double> cities = new HashMap<>();
+        final Set<String> skills = new HashSet<>();
+        final Set<Long> registeredEventIds = new HashSet<>();
+        double categoryTotal;
+        double cityTotal;
+
+        Profile(Long userId, int points) {
+            this.userId = userId;
+            this.points = points;
+        }
+
+        void add(Long eventId, String category, String city, Set<String> eventSkills,
+                EventVolunteer.VolunteerStatus status) {
+            registeredEventIds.add(eventId);
+            if (status == null) {
+                return;
+            }
+            double weight = switch (status) {
+                case ATTENDED -> 1.0;
+                case APPROVED -> 0.8;
+                case PENDING -> 0.5;
+                default -> 0.0;
+            };
+            if (weight == 0) {
+                return;
+            }
+            if (category != null) {
+                categories.merge(category, weight, Double::sum);
+                categoryTotal += weight;
+            }
+            if (city != null) {
+                cities.merge(city, weight, Double::sum);
+                cityTotal += weight;
+            }
+            skills.addAll(eventSkills);
+        }
+    }
+
+    record Candidate(Long id, String category, String city, Set<String> skills, int required, int current) {
+        boolean eligibleFor(Profile profile) {
+            return (required <= 0 || current < required) && !profile.registeredEventIds.contains(id);
+        }
+    }
+
+    private record Scored(Long eventId, double score) {
+    }
+}
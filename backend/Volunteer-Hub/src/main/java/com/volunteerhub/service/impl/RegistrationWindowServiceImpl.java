@@ -0,0 +1,256 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.EventDetailsDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.Notification;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.EventRecommendationRepository;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.service.EventCacheService;
+import com.volunteerhub.service.NotificationService;
+import com.volunteerhub.service.RegistrationWindowService;
+import com.volunteerhub.service.SchedulerLeaseService;
+import com.volunteerhub.util.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flips events' registration state when their registration window opens or
+ * closes. Edges within the next horizon sit in a timing wheel, so each one fires
+ * within a tick of its time instead of waiting for a polling pass. Cache
+ * pre-warming runs on every node; state changes and notifications run only on
+ * the lease holder. A periodic refresh reloads the horizon and reconciles any
+ * edge that was missed.
+ */
+@Service
+public class RegistrationWindowServiceImpl implements RegistrationWindowService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationWindowServiceImpl.class);
+
+    static final String LEASE = "registration-windows";
+
+    private static final String NEXT_STATE = EventRepository.registrationStateSql("?");
+
+    // Locks only the rows that actually change and hands back their previous state,
+    // so an UPCOMING -> OPEN flip is observed (and notified) exactly once
+    private static final String SYNC_TEMPLATE = "UPDATE events e SET registration_state = s.next_state, updated_at = ? "
+            + "FROM (SELECT id, registration_state AS previous_state, " + NEXT_STATE + " AS next_state FROM events "
+            + "WHERE %s registration_state IS DISTINCT FROM " + NEXT_STATE + " FOR UPDATE) s "
+            + "WHERE e.id = s.id RETURNING e.id, e.title, s.previous_state, s.next_state";
+    private static final String SYNC_BY_ID_SQL = SYNC_TEMPLATE.formatted("id = ANY(?) AND");
+    private static final String SYNC_ALL_SQL = SYNC_TEMPLATE.formatted("");
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+
+    private final EventRepository eventRepository;
+    private final EventRecommendationRepository eventRecommendationRepository;
+    private final EventCacheService eventCacheService;
+    private final NotificationService notificationService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration horizon;
+    private final Duration prewarmLead;
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final TimingWheel<Transition> wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    // Refreshes re-read the whole horizon; this keeps a timer from being added twice
+    private final Set<Transition> scheduled = ConcurrentHashMap.newKeySet();
+
+    public RegistrationWindowServiceImpl(EventRepository eventRepository,
+            EventRecommendationRepository eventRecommendationRepository,
+            EventCacheService eventCacheService,
+            NotificationService notificationService,
+            SchedulerLeaseService schedulerLeaseService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${events.registration-windows.horizon-minutes:15}") long horizonMinutes,
+            @Value("${events.registration-windows.prewarm-lead-seconds:120}") long prewarmLeadSeconds) {
+        this.eventRepository = eventRepository;
+        this.eventRecommendationRepository = eventRecommendationRepository;
+        this.eventCacheService = eventCacheService;
+        this.notificationService = notificationService;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+        this.prewarmLead = Duration.ofSeconds(prewarmLeadSeconds);
+    }
+
+    @Override
+    public void recordChange(Event event) {
+        if (event == null || event.getId() == null || event.getStatus() != Event.EventStatus.PUBLISHED) {
+            return;
+        }
+        schedule(event.getId(), event.getRegistrationOpenDateTime(), event.getRegistrationCloseDateTime(),
+                LocalDateTime.now());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.registration-windows.tick-ms:1000}")
+    public void tick() {
+        List<Transition> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        Set<Long> prewarm = new LinkedHashSet<>();
+        Set<Long> transitions = new LinkedHashSet<>();
+        for (Transition transition : due) {
+            scheduled.remove(transition);
+            (transition.kind() == Kind.PREWARM ? prewarm : transitions).add(transition.eventId());
+        }
+
+        // Every node serves reads, so every node warms its own cache
+        prewarm.forEach(this::prewarm);
+
+        if (!transitions.isEmpty() && schedulerLeaseService.isLeader(LEASE)) {
+            try {
+                applyTransitions(new ArrayList<>(transitions));
+            } catch (Exception e) {
+                // The next refresh reconciles whatever this pass missed
+                logger.error("❌ Registration window transition failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${events.registration-windows.refresh-interval-ms:60000}",
+            initialDelayString = "${events.registration-windows.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (Object[] row : eventRepository.findRegistrationWindowEdges(now, now.plus(horizon))) {
+                schedule((Long) row[0], (LocalDateTime) row[1], (LocalDateTime) row[2], now);
+            }
+            // Catches edits made on other nodes, and transitions missed during a leader handover
+            if (schedulerLeaseService.isLeader(LEASE)) {
+                applyTransitions(null);
+            }
+            logger.debug("⏱️ Registration window wheel holds {} timers", wheel.size());
+        } catch (Exception e) {
+            logger.error("❌ Registration window refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(Long eventId, LocalDateTime opensAt, LocalDateTime closesAt, LocalDateTime now) {
+        LocalDateTime limit = now.plus(horizon);
+        if (opensAt != null && opensAt.isAfter(now) && opensAt.isBefore(limit)) {
+            // Already inside the lead time fires on the next tick; a warm entry makes a repeat a cache hit
+            add(new Transition(eventId, Kind.PREWARM, toMillis(opensAt.minus(prewarmLead))));
+            add(new Transition(eventId, Kind.OPEN, toMillis(opensAt) + 1));
+        }
+        // Registration closes once now is after the close time, so fire just past it
+        if (closesAt != null && !closesAt.isBefore(now) && closesAt.isBefore(limit)) {
+            add(new Transition(eventId, Kind.CLOSE, toMillis(closesAt) + 1));
+        }
+    }
+
+    private void add(Transition transition) {
+        if (scheduled.add(transition)) {
+            wheel.add(transition.at(), transition);
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private void prewarm(Long eventId) {
+        try {
+            eventCacheService.get(eventId, id -> eventRepository.findByIdWithOrganizer(id)
+                    .map(EventDetailsDTO::from)
+                    .orElse(null));
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not pre-warm event {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    // Null ids reconciles every row
+    private void applyTransitions(List<Long> eventIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<StateChange> changes = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(eventIds == null ? SYNC_ALL_SQL : SYNC_BY_ID_SQL);
+            int i = 1;
+            ps.setTimestamp(i++, now);
+            ps.setTimestamp(i++, now);
+            ps.setTimestamp(i++, now);
+            if (eventIds != null) {
+                ps.setArray(i++, con.createArrayOf("bigint", eventIds.toArray()));
+            }
+            ps.setTimestamp(i++, now);
+            ps.setTimestamp(i, now);
+            return ps;
+        }, (rs, rowNum) -> new StateChange(rs.getLong(1), rs.getString(2),
+                parseState(rs.getString(3)), parseState(rs.getString(4))));
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<StateChange> opened = changes.stream()
+                .filter(change -> change.previous() == Event.RegistrationState.UPCOMING
+                        && change.next() == Event.RegistrationState.OPEN)
+                .toList();
+        logger.info("⏱️ Registration state changed for {} events ({} opened)", changes.size(), opened.size());
+        opened.forEach(this::notifyOpened);
+    }
+
+    // Volunteers the event was recommended to are the ones most likely waiting for it
+    private void notifyOpened(StateChange change) {
+        try {
+            List<Long> userIds = eventRecommendationRepository.findUserIdsByEventId(change.eventId());
+            if (userIds.isEmpty()) {
+                return;
+            }
+            String message = "Registration is now open for '" + change.title() + "'.";
+            List<Notification> notifications = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                notifications.add(Notification.builder()
+                        .user(User.builder().id(userId).build())
+                        .title("Registration Open")
+                        .message(message)
+                        .type(Notification.NotificationType.INFO)
+                        .build());
+            }
+            notificationService.createNotifications(notifications);
+        } catch (Exception e) {
+            logger.error("❌ Failed to notify volunteers for event {}: {}", change.eventId(), e.getMessage());
+        }
+    }
+
+    private static Event.RegistrationState parseState(String value) {
+        return value != null ? Event.RegistrationState.valueOf(value) : null;
+    }
+
+    private enum Kind {
+        PREWARM,
+        OPEN,
+        CLOSE
+    }
+
+    private record Transition(Long eventId, Kind kind, long at) {
+    }
+
+    private record StateChange(Long eventId, String title, Event.RegistrationState previous,
+            Event.RegistrationState next) {
+    }
+}
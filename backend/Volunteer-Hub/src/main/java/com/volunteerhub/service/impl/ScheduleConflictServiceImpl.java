@@ -0,0 +1,172 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.dto.ScheduleConflictDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
+import com.volunteerhub.repository.EventRepository;
+import com.volunteerhub.repository.EventVolunteerRepository;
+import com.volunteerhub.service.ScheduleConflictService;
+import com.volunteerhub.util.IntervalIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps an interval index of each active volunteer's commitments in a bounded
+ * LRU, so a conflict check is an O(log n) seek instead of a scan of their
+ * registrations. Entries are dropped whenever one of the volunteer's
+ * registrations or one of their events changes, and rebuilt on next use.
+ * <p>
+ * Each volunteer's entry carries its own generation, so an eviction only stops
+ * loads of the schedules it touched from being cached. While a join transaction
+ * is open for a volunteer, their entry is not cached at all.
+ */
+@Service
+public class ScheduleConflictServiceImpl implements ScheduleConflictService {
+
+    private static final Set<EventVolunteer.VolunteerStatus> COMMITTED_STATUSES = EnumSet.of(
+            EventVolunteer.VolunteerStatus.PENDING,
+            EventVolunteer.VolunteerStatus.APPROVED,
+            EventVolunteer.VolunteerStatus.ATTENDED);
+
+    // Conflicts reported by one check; far more than any volunteer can overlap in practice
+    private static final int MAX_CONFLICTS = 50;
+
+    private final EventVolunteerRepository eventVolunteerRepository;
+    private final EventRepository eventRepository;
+    private final Map<Long, Slot> schedules;
+
+    public ScheduleConflictServiceImpl(EventVolunteerRepository eventVolunteerRepository,
+            EventRepository eventRepository,
+            @Value("${volunteers.conflicts.cache-max-entries:10000}") int maxEntries) {
+        this.eventVolunteerRepository = eventVolunteerRepository;
+        this.eventRepository = eventRepository;
+        this.schedules = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Slot> eldest) {
+                // An entry with a join in flight must survive, or a fresh one could cache stale rows
+                return size() > maxEntries && eldest.getValue().writers == 0;
+            }
+        };
+    }
+
+    @Override
+    public List<ScheduleConflictDTO> findConflicts(Long volunteerId, LocalDateTime start, LocalDateTime end,
+            Long excludeEventId) {
+        if (start == null) {
+            return List.of();
+        }
+        LocalDateTime finish = end == null || end.isBefore(start) ? start : end;
+        return schedule(volunteerId).overlapping(start, finish, null, null,
+                conflict -> !conflict.getEventId().equals(excludeEventId) && overlaps(conflict, start, finish)
+                        && conflict.getEventStatus() != Event.EventStatus.CANCELLED,
+                MAX_CONFLICTS).stream()
+                .map(IntervalIndex.Interval::value)
+                .toList();
+    }
+
+    @Override
+    public List<ScheduleConflictDTO> findConflictsForEvent(Long volunteerId, Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        return findConflicts(volunteerId, event.getDateTime(), event.resolveEndDateTime(), eventId);
+    }
+
+    @Override
+    public void evictVolunteer(Long volunteerId) {
+        synchronized (schedules) {
+            Slot slot = schedules.get(volunteerId);
+            if (slot != null) {
+                slot.invalidate();
+            }
+        }
+    }
+
+    @Override
+    public void evictVolunteerUntilCompletion(Long volunteerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictVolunteer(volunteerId);
+            return;
+        }
+        Slot slot;
+        synchronized (schedules) {
+            slot = schedules.computeIfAbsent(volunteerId, id -> new Slot());
+            slot.writers++;
+            slot.invalidate();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (schedules) {
+                    slot.writers--;
+                    slot.invalidate();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void evictEvent(Long eventId) {
+        synchronized (schedules) {
+            // A schedule still loading may have read the event's old row, so it goes too
+            schedules.values().stream()
+                    .filter(slot -> slot.index == null || slot.index.get(eventId) != null)
+                    .forEach(Slot::invalidate);
+        }
+    }
+
+    // The index is closed on both ends; compare half-open so back-to-back events can both be joined
+    private static boolean overlaps(ScheduleConflictDTO conflict, LocalDateTime start, LocalDateTime finish) {
+        LocalDateTime conflictEnd = conflict.getEnd() == null || conflict.getEnd().isBefore(conflict.getStart())
+                ? conflict.getStart() : conflict.getEnd();
+        return conflict.getStart().equals(start)
+                || conflict.getStart().isBefore(finish) && conflictEnd.isAfter(start);
+    }
+
+    private IntervalIndex<ScheduleConflictDTO> schedule(Long volunteerId) {
+        Slot slot;
+        long generation;
+        synchronized (schedules) {
+            slot = schedules.computeIfAbsent(volunteerId, id -> new Slot());
+            if (slot.index != null) {
+                return slot.index;
+            }
+            generation = slot.generation;
+        }
+        IntervalIndex<ScheduleConflictDTO> loaded = new IntervalIndex<>();
+        for (ScheduleConflictDTO commitment : eventVolunteerRepository.findCommitments(volunteerId,
+                COMMITTED_STATUSES)) {
+            if (commitment.getStart() != null) {
+                loaded.put(commitment.getEventId(), commitment.getStart(), commitment.getEnd(), commitment);
+            }
+        }
+        synchronized (schedules) {
+            // A load that raced an eviction of this volunteer, or an open join, is used once but not cached
+            if (slot.generation == generation && slot.writers == 0 && schedules.get(volunteerId) == slot) {
+                slot.index = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    // Guarded by the schedules lock; a null index means not loaded yet or evicted
+    private static final class Slot {
+        private IntervalIndex<ScheduleConflictDTO> index;
+        private long generation;
+        // Join transactions for this volunteer that have not completed yet
+        private int writers;
+
+        private void invalidate() {
+            index = null;
+            generation++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.volunteerhub.service.impl;
+
+import com.volunteerhub.repository.SchedulerLeaseRepository;
+import com.volunteerhub.service.SchedulerLeaseService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SchedulerLeaseServiceImpl implements SchedulerLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeaseServiceImpl.class);
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final long ttlSeconds;
+    private final long renewNanos;
+    // Stop trusting a lease one renew interval before the database would expire it
+    private final long trustNanos;
+    private final String nodeId;
+
+    private final Map<String, LeaseState> leases = new ConcurrentHashMap<>();
+
+    public SchedulerLeaseServiceImpl(SchedulerLeaseRepository leaseRepository,
+            @Value("${scheduler.lease.ttl-seconds:30}") long ttlSeconds,
+            @Value("${scheduler.lease.renew-interval-ms:10000}") long renewIntervalMs) {
+        if (renewIntervalMs >= ttlSeconds * 1000) {
+            throw new IllegalArgumentException("scheduler.lease.renew-interval-ms must be shorter than the lease ttl");
+        }
+        this.leaseRepository = leaseRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.renewNanos = TimeUnit.MILLISECONDS.toNanos(renewIntervalMs);
+        this.trustNanos = TimeUnit.SECONDS.toNanos(ttlSeconds) - renewNanos;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    public boolean isLeader(String lease) {
+        long now = System.nanoTime();
+        LeaseState state = leases.get(lease);
+        if (state != null && now - state.checkedAt < renewNanos) {
+            return state.held && now - state.checkedAt < trustNanos;
+        }
+
+        synchronized (this) {
+            // Another caller may have renewed while this one waited for the lock
+            now = System.nanoTime();
+            state = leases.get(lease);
+            if (state != null && now - state.checkedAt < renewNanos) {
+                return state.held && now - state.checkedAt < trustNanos;
+            }
+            boolean held;
+            try {
+                held = leaseRepository.acquire(lease, nodeId, ttlSeconds) > 0;
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not renew lease '{}': {}", lease, e.getMessage());
+                held = false;
+            }
+            boolean wasHeld = state != null && state.held;
+            if (held != wasHeld) {
+                logger.info(held ? "👑 {} acquired lease '{}'" : "🔻 {} lost lease '{}'", nodeId, lease);
+            }
+            leases.put(lease, new LeaseState(held, now));
+            return held;
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Hand leases back on a clean shutdown so another node takes over without waiting for expiry
+    @PreDestroy
+    public void releaseAll() {
+        leases.forEach((lease, state) -> {
+            if (state.held) {
+                try {
+                    leaseRepository.release(lease, nodeId);
+                } catch (Exception e) {
+                    logger.warn("⚠️ Could not release lease '{}': {}", lease, e.getMessage());
+                }
+            }
+        });
+        leases.clear();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+
+    private record LeaseState(boolean held, long checkedAt) {
+    }
+}
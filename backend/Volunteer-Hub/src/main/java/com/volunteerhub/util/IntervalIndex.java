@@ -0,0 +1,211 @@
+package com.volunteerhub.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Index of closed time intervals keyed by id.
+ * <p>
+ * An interval tree: a treap ordered by (start, id) where every node also carries
+ * the latest end in its subtree. An overlap query skips any subtree that ends
+ * before {@code from} and anything to the right of a node starting after
+ * {@code to}, so it stays O(log n + k) however long the longest interval is.
+ * <p>
+ * Writers take the write lock, so the tree and the id map always change together.
+ */
+public class IntervalIndex<T> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Node<T>> byId = new HashMap<>();
+    private Node<T> root;
+
+    public void put(Long id, LocalDateTime start, LocalDateTime end, T value) {
+        LocalDateTime safeEnd = end == null || end.isBefore(start) ? start : end;
+        Node<T> fresh = new Node<>(new Interval<>(id, start, safeEnd, value), ThreadLocalRandom.current().nextInt());
+        lock.writeLock().lock();
+        try {
+            Node<T> previous = byId.put(id, fresh);
+            if (previous != null) {
+                root = remove(root, previous.interval.start, id);
+            }
+            root = insert(root, fresh);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Node<T> previous = byId.remove(id);
+            if (previous != null) {
+                root = remove(root, previous.interval.start, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Interval<T> get(Long id) {
+        lock.readLock().lock();
+        try {
+            Node<T> node = byId.get(id);
+            return node != null ? node.interval : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intervals intersecting [from, to], ordered by start.
+     */
+    public List<Interval<T>> overlapping(LocalDateTime from, LocalDateTime to, int limit) {
+        return overlapping(from, to, null, null, value -> true, limit);
+    }
+
+    /**
+     * Up to {@code limit} intervals intersecting [from, to] whose value passes the filter,
+     * ordered by (start, id) and strictly after the given position when one is set.
+     */
+    public List<Interval<T>> overlapping(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart,
+            Long afterId, Predicate<T> filter, int limit) {
+        List<Interval<T>> result = new ArrayList<>(Math.min(limit, 64));
+        if (limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            new Query<>(from, to, afterStart, afterId, filter, limit, result).collect(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> fresh) {
+        if (node == null) {
+            return update(fresh);
+        }
+        if (compare(fresh.interval.start, fresh.interval.id, node) < 0) {
+            node.left = insert(node.left, fresh);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, fresh);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return update(node);
+    }
+
+    private static <T> Node<T> remove(Node<T> node, LocalDateTime start, Long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.priority > node.right.priority) {
+            node = rotateRight(node);
+            node.right = remove(node.right, start, id);
+        } else {
+            node = rotateLeft(node);
+            node.left = remove(node.left, start, id);
+        }
+        return update(node);
+    }
+
+    private static int compare(LocalDateTime start, Long id, Node<?> node) {
+        int cmp = start.compareTo(node.interval.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.interval.id);
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = update(node);
+        return update(left);
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = update(node);
+        return update(right);
+    }
+
+    private static <T> Node<T> update(Node<T> node) {
+        LocalDateTime maxEnd = node.interval.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private record Query<T>(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long afterId,
+            Predicate<T> filter, int limit, List<Interval<T>> out) {
+
+        private void collect(Node<T> node) {
+            if (node == null || out.size() >= limit || node.maxEnd.isBefore(from)) {
+                return;
+            }
+            // Everything left of a node at or before the cursor is before the cursor too
+            boolean pastCursor = afterStart == null || compare(afterStart, afterId, node) < 0;
+            if (pastCursor) {
+                collect(node.left);
+            }
+            boolean startsInRange = !node.interval.start.isAfter(to);
+            if (pastCursor && startsInRange && out.size() < limit && !node.interval.end.isBefore(from)
+                    && filter.test(node.interval.value)) {
+                out.add(node.interval);
+            }
+            if (startsInRange) {
+                collect(node.right);
+            }
+        }
+    }
+
+    private static final class Node<T> {
+        private final Interval<T> interval;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(Interval<T> interval, int priority) {
+            this.interval = interval;
+            this.priority = priority;
+        }
+    }
+
+    public record Interval<T>(Long id, LocalDateTime start, LocalDateTime end, T value) {
+    }
+}
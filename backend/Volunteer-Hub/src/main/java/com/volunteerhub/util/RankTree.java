@@ -0,0 +1,151 @@
+package com.volunteerhub.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic treap of (score, id) pairs, highest score first and lower id
+ * first on ties. Every node carries its subtree size, so inserting, removing,
+ * ranking and seeking to the top of the order all cost O(log n) expected.
+ * <p>
+ * Not thread-safe; callers guard it.
+ */
+public class RankTree {
+
+    private Node root;
+
+    public int size() {
+        return size(root);
+    }
+
+    public void insert(long score, long id) {
+        root = insert(root, new Node(score, id, ThreadLocalRandom.current().nextInt()));
+    }
+
+    public void remove(long score, long id) {
+        root = remove(root, score, id);
+    }
+
+    /**
+     * Number of entries with a strictly higher score; plus one, this is the
+     * competition rank ("1224") of any entry holding {@code score}.
+     */
+    public int countAbove(long score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // The first {@code limit} entries in rank order as [score, id] pairs
+    public List<long[]> top(int limit) {
+        List<long[]> out = new ArrayList<>(Math.min(limit, size()));
+        collect(root, limit, out);
+        return out;
+    }
+
+    private static void collect(Node node, int limit, List<long[]> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, out);
+        if (out.size() < limit) {
+            out.add(new long[] { node.score, node.id });
+            collect(node.right, limit, out);
+        }
+    }
+
+    private static Node insert(Node node, Node fresh) {
+        if (node == null) {
+            return fresh;
+        }
+        if (compare(fresh.score, fresh.id, node) < 0) {
+            node.left = insert(node.left, fresh);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, fresh);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, long score, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, score, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, score, id);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.priority > node.right.priority) {
+            node = rotateRight(node);
+            node.right = remove(node.right, score, id);
+        } else {
+            node = rotateLeft(node);
+            node.left = remove(node.left, score, id);
+        }
+        return update(node);
+    }
+
+    private static int compare(long score, long id, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return Long.compare(id, node.id);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = update(node);
+        return update(left);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = update(node);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final long score;
+        private final long id;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long score, long id, int priority) {
+            this.score = score;
+            this.id = id;
+            this.priority = priority;
+        }
+    }
+}
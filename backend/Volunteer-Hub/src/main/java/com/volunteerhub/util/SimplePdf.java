@@ -0,0 +1,130 @@
+package com.volunteerhub.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Minimal single-page PDF writer: centred or left-aligned text in the standard
+ * Helvetica faces plus stroked rectangles. The standard 14 fonts need no embedding,
+ * so a page is a few kilobytes and renders in microseconds.
+ * <p>
+ * Text is WinAnsi (Latin-1); anything outside it is written as '?'.
+ */
+public class SimplePdf {
+
+    // A4 landscape in points
+    public static final float PAGE_WIDTH = 842;
+    public static final float PAGE_HEIGHT = 595;
+
+    // Advance widths per 1000 units for ASCII 32..126, from the Adobe core font metrics
+    private static final short[] HELVETICA = {
+            278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+            1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+            333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+            556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584 };
+    private static final short[] HELVETICA_BOLD = {
+            278, 333, 474, 556, 556, 889, 722, 238, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 333, 333, 584, 584, 584, 611,
+            975, 722, 722, 722, 722, 667, 611, 778, 722, 278, 556, 722, 611, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 333, 278, 333, 584, 556,
+            333, 556, 611, 556, 611, 556, 333, 611, 611, 278, 278, 556, 278, 889, 611, 611,
+            611, 611, 389, 556, 333, 611, 556, 778, 556, 556, 500, 389, 280, 389, 584 };
+    private static final int FALLBACK_WIDTH = 556;
+
+    private final StringBuilder content = new StringBuilder();
+
+    public SimplePdf text(String value, float x, float y, float size, boolean bold) {
+        content.append("BT /").append(bold ? "F2" : "F1").append(' ').append(number(size)).append(" Tf ")
+                .append(number(x)).append(' ').append(number(y)).append(" Td (")
+                .append(escape(value)).append(") Tj ET\n");
+        return this;
+    }
+
+    // Shrinks the font until the line fits between the margins
+    public SimplePdf centered(String value, float y, float size, boolean bold, float maxWidth) {
+        float fitted = size;
+        float width = width(value, fitted, bold);
+        if (width > maxWidth) {
+            fitted = size * maxWidth / width;
+            width = maxWidth;
+        }
+        return text(value, (PAGE_WIDTH - width) / 2, y, fitted, bold);
+    }
+
+    public SimplePdf rectangle(float x, float y, float width, float height, float lineWidth) {
+        content.append(number(lineWidth)).append(" w ").append(number(x)).append(' ').append(number(y)).append(' ')
+                .append(number(width)).append(' ').append(number(height)).append(" re S\n");
+        return this;
+    }
+
+    public static float width(String value, float size, boolean bold) {
+        short[] widths = bold ? HELVETICA_BOLD : HELVETICA;
+        long units = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            units += c >= 32 && c <= 126 ? widths[c - 32] : FALLBACK_WIDTH;
+        }
+        return units * size / 1000f;
+    }
+
+    public byte[] toBytes() {
+        byte[] stream = content.toString().getBytes(StandardCharsets.ISO_8859_1);
+        List<String> objects = new ArrayList<>();
+        objects.add("<< /Type /Catalog /Pages 2 0 R >>");
+        objects.add("<< /Type /Pages /Kids [3 0 R] /Count 1 >>");
+        objects.add("<< /Type /Page /Parent 2 0 R /MediaBox [0 0 " + number(PAGE_WIDTH) + " " + number(PAGE_HEIGHT)
+                + "] /Resources << /Font << /F1 4 0 R /F2 5 0 R >> >> /Contents 6 0 R >>");
+        objects.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        objects.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(stream.length + 1024);
+        write(out, "%PDF-1.4\n");
+        long[] offsets = new long[objects.size() + 1];
+        for (int i = 0; i < objects.size(); i++) {
+            offsets[i] = out.size();
+            write(out, (i + 1) + " 0 obj\n" + objects.get(i) + "\nendobj\n");
+        }
+        offsets[objects.size()] = out.size();
+        write(out, (objects.size() + 1) + " 0 obj\n<< /Length " + stream.length + " >>\nstream\n");
+        out.writeBytes(stream);
+        write(out, "\nendstream\nendobj\n");
+
+        long xref = out.size();
+        StringBuilder trailer = new StringBuilder("xref\n0 ").append(offsets.length + 1).append("\n0000000000 65535 f \n");
+        for (long offset : offsets) {
+            trailer.append(String.format(Locale.ROOT, "%010d 00000 n \n", offset));
+        }
+        trailer.append("trailer\n<< /Size ").append(offsets.length + 1).append(" /Root 1 0 R >>\nstartxref\n")
+                .append(xref).append("\n%%EOF\n");
+        write(out, trailer.toString());
+        return out.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, String value) {
+        out.writeBytes(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 32 || c > 255) {
+                escaped.append('?');
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String number(float value) {
+        return value == (long) value ? Long.toString((long) value) : String.format(Locale.ROOT, "%.2f", value);
+    }
+}
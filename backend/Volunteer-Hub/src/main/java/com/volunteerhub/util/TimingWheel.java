@@ -0,0 +1,135 @@
+package com.volunteerhub.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel.
+ * <p>
+ * Each level is a ring of {@code wheelSize} buckets, each {@code tickMillis} wide.
+ * Timers beyond a level's span go to a coarser overflow level (created on demand)
+ * and cascade down as the clock reaches their bucket, so adding and expiring a
+ * timer are O(1) however far out it is. Timers are never fired early: anything
+ * that lands in the current tick waits in a ready list until it is actually due.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private Level<T> root;
+    private final List<Timer<T>> ready = new ArrayList<>();
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    public synchronized void add(long dueAtMillis, T value) {
+        Timer<T> timer = new Timer<>(dueAtMillis, value);
+        if (!root.add(timer)) {
+            ready.add(timer);
+        }
+        size++;
+    }
+
+    /**
+     * Move the clock to {@code nowMillis} and return every value due by then, in due order.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<Timer<T>> candidates = new ArrayList<>(ready);
+        ready.clear();
+        root.advance(nowMillis, candidates);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<Timer<T>> due = new ArrayList<>(candidates.size());
+        for (Timer<T> timer : candidates) {
+            if (timer.dueAt() <= nowMillis) {
+                due.add(timer);
+            } else {
+                ready.add(timer);
+            }
+        }
+        size -= due.size();
+        due.sort(Comparator.comparingLong(Timer::dueAt));
+        return due.stream().map(Timer::value).toList();
+    }
+
+    public synchronized void clear(long startMillis) {
+        root = new Level<>(tickMillis, wheelSize, startMillis);
+        ready.clear();
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private record Timer<T>(long dueAt, T value) {
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long span;
+        private final List<List<Timer<T>>> buckets;
+        private long currentTime;
+        private Level<T> overflow;
+
+        Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.span = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        }
+
+        // False when the timer falls inside the current tick and cannot be bucketed
+        boolean add(Timer<T> timer) {
+            if (timer.dueAt() < currentTime + tickMillis) {
+                return false;
+            }
+            if (timer.dueAt() < currentTime + span) {
+                buckets.get(bucketOf(timer.dueAt())).add(timer);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(span, wheelSize, currentTime);
+            }
+            return overflow.add(timer);
+        }
+
+        // Expired buckets go to {@code out}: due timers at the bottom level, cascades otherwise
+        void advance(long nowMillis, List<Timer<T>> out) {
+            while (nowMillis >= currentTime + tickMillis) {
+                currentTime += tickMillis;
+                if (overflow != null) {
+                    List<Timer<T>> cascaded = new ArrayList<>();
+                    overflow.advance(currentTime, cascaded);
+                    for (Timer<T> timer : cascaded) {
+                        if (!add(timer)) {
+                            out.add(timer);
+                        }
+                    }
+                }
+                List<Timer<T>> bucket = buckets.get(bucketOf(currentTime));
+                if (!bucket.isEmpty()) {
+                    out.addAll(bucket);
+                    bucket.clear();
+                }
+            }
+        }
+
+        private int bucketOf(long millis) {
+            return (int) Math.floorMod(millis / tickMillis, (long) wheelSize);
+        }
+    }
+}
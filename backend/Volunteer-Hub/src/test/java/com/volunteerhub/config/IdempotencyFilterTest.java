@@ -0,0 +1,121 @@
+package com.volunteerhub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerhub.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdempotencyFilterTest {
+
+	private final InMemoryIdempotencyService service = new InMemoryIdempotencyService();
+	private final IdempotencyFilter filter = new IdempotencyFilter(service, new ObjectMapper());
+	private final AtomicInteger handled = new AtomicInteger();
+
+	@Test
+	void successIsStoredAndReplayedWithoutRunningTheHandler() throws Exception {
+		MockHttpServletResponse first = send("join-1", "7", 201, "{\"id\":1}");
+		MockHttpServletResponse second = send("join-1", "7", 201, "{\"id\":2}");
+
+		assertEquals(1, handled.get());
+		assertEquals(201, second.getStatus());
+		assertEquals(first.getContentAsString(), second.getContentAsString());
+		assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+		assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+	}
+
+	@Test
+	void clientErrorsReleaseTheKeySoAFixedRetryRuns() throws Exception {
+		send("join-2", "7", 400, "{\"message\":\"closed\"}");
+		MockHttpServletResponse retry = send("join-2", "7", 200, "{\"id\":3}");
+
+		assertEquals(2, handled.get());
+		assertEquals(200, retry.getStatus());
+		assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+		assertEquals(1, service.stored.size());
+	}
+
+	@Test
+	void reusingAKeyWithOtherParametersIsRejected() throws Exception {
+		send("join-3", "7", 200, "{}");
+		MockHttpServletResponse reused = send("join-3", "8", 200, "{}");
+
+		assertEquals(1, handled.get());
+		assertEquals(422, reused.getStatus());
+	}
+
+	@Test
+	void aKeyStillInFlightConflicts() throws Exception {
+		service.busy = true;
+		MockHttpServletResponse busy = send("join-4", "7", 200, "{}");
+
+		assertEquals(0, handled.get());
+		assertEquals(409, busy.getStatus());
+	}
+
+	private MockHttpServletResponse send(String key, String volunteerId, int status, String body) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/volunteers/join/5");
+		request.addHeader(IdempotencyFilter.HEADER, key);
+		request.addParameter("volunteerId", volunteerId);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain handler = (req, res) -> {
+			handled.incrementAndGet();
+			res.setContentType("application/json");
+			((HttpServletResponse) res).setStatus(status);
+			res.getOutputStream().write(body.getBytes());
+		};
+		filter.doFilter(request, response, handler);
+		return response;
+	}
+
+	private static class InMemoryIdempotencyService implements IdempotencyService {
+		private final Map<String, String> fingerprints = new HashMap<>();
+		private final Map<String, StoredResponse> stored = new HashMap<>();
+		private final Set<String> inFlight = new HashSet<>();
+		private boolean busy;
+
+		@Override
+		public Claim begin(String key, String fingerprint) {
+			if (busy || inFlight.contains(key)) {
+				return new Claim(Outcome.IN_PROGRESS, null);
+			}
+			String known = fingerprints.get(key);
+			if (known != null && !known.equals(fingerprint)) {
+				return new Claim(Outcome.MISMATCH, null);
+			}
+			if (stored.containsKey(key)) {
+				return new Claim(Outcome.REPLAY, stored.get(key));
+			}
+			fingerprints.put(key, fingerprint);
+			inFlight.add(key);
+			return new Claim(Outcome.PROCEED, null);
+		}
+
+		@Override
+		public void complete(String key, String fingerprint, StoredResponse response) {
+			inFlight.remove(key);
+			stored.put(key, response);
+		}
+
+		@Override
+		public void release(String key) {
+			inFlight.remove(key);
+			fingerprints.remove(key);
+		}
+
+		@Override
+		public void purgeExpired() {
+		}
+	}
+}
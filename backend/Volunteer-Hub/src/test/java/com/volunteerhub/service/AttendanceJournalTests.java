@@ -0,0 +1,76 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.AttendanceSyncRequest;
+import com.volunteerhub.dto.AttendanceSyncResultDTO;
+import com.volunteerhub.model.AttendanceJournalEntry;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AttendanceJournalTests extends AttendanceTestSupport {
+
+	@Test
+	void latestWriterWinsBetweenRollCallAndDevices() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 2);
+		Long registrationId = approvedRoster(event, organizer, 1).get(0);
+		LocalDate today = LocalDate.now();
+
+		eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today, Map.of(registrationId, false));
+
+		// Scanned offline before the organizer marked the volunteer absent, so the mark stands
+		AttendanceSyncResultDTO stale = eventVolunteerService.syncAttendanceJournal(
+				sync(organizer, "tablet-a", registrationId, 1, today.atStartOfDay()));
+		assertEquals(1, stale.getApplied());
+		assertEquals(0, stale.getNewlyPresent());
+		assertEquals(1, attendanceCount(event.getId(), today, "ABSENT"));
+
+		AttendanceSyncRequest newer = sync(organizer, "tablet-b", registrationId, 1, LocalDateTime.now());
+		AttendanceSyncResultDTO applied = eventVolunteerService.syncAttendanceJournal(newer);
+		assertEquals(1, applied.getNewlyPresent());
+		assertEquals(EventVolunteerService.POINTS_PER_ATTENDED_DAY, applied.getPointsAwarded());
+		assertEquals(1, attendanceCount(event.getId(), today, "PRESENT"));
+
+		AttendanceSyncResultDTO resent = eventVolunteerService.syncAttendanceJournal(newer);
+		assertEquals(0, resent.getApplied());
+		assertEquals(1, resent.getDuplicates());
+		assertEquals(0, resent.getPointsAwarded());
+	}
+
+	@Test
+	void organizersMayReuseDeviceIdsAndSequences() {
+		for (int i = 0; i < 2; i++) {
+			User organizer = createUser(User.Role.ORGANIZER);
+			Event event = createTodaysEvent(organizer, 2);
+			Long registrationId = approvedRoster(event, organizer, 1).get(0);
+
+			AttendanceSyncResultDTO result = eventVolunteerService.syncAttendanceJournal(
+					sync(organizer, "tablet-1", registrationId, 0, LocalDateTime.now()));
+
+			assertEquals(1, result.getApplied());
+			assertEquals(0, result.getDuplicates());
+			assertEquals(1, attendanceCount(event.getId(), LocalDate.now(), "PRESENT"));
+		}
+	}
+
+	private static AttendanceSyncRequest sync(User organizer, String deviceId, Long registrationId, long sequence,
+			LocalDateTime occurredAt) {
+		AttendanceSyncRequest.Entry entry = new AttendanceSyncRequest.Entry();
+		entry.setRegistrationId(registrationId);
+		entry.setSequence(sequence);
+		entry.setType(AttendanceJournalEntry.EntryType.CHECK_IN);
+		entry.setOccurredAt(occurredAt);
+		AttendanceSyncRequest request = new AttendanceSyncRequest();
+		request.setOrganizerId(organizer.getId());
+		request.setDeviceId(deviceId);
+		request.setEntries(List.of(entry));
+		return request;
+	}
+}
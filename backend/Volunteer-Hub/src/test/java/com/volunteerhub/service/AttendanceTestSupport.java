@@ -0,0 +1,157 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.BulkDecisionRequest;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.EventVolunteer;
+import com.volunteerhub.model.User;
+import com.volunteerhub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fixtures for tests that run against the test profile's database. Each test creates
+ * its own users and events and deletes them, and everything they led to, afterwards.
+ * Email is mocked, so no mail leaves the test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class AttendanceTestSupport {
+
+	@MockitoBean
+	protected EmailService emailService;
+
+	@Autowired
+	protected UserRepository userRepository;
+
+	@Autowired
+	protected EventService eventService;
+
+	@Autowired
+	protected EventVolunteerService eventVolunteerService;
+
+	@Autowired
+	protected JdbcTemplate jdbcTemplate;
+
+	private final List<Long> createdUsers = new ArrayList<>();
+	private final List<Long> createdEvents = new ArrayList<>();
+	private final List<String> createdTitles = new ArrayList<>();
+
+	// Children first; admin notifications about an event are found by its unique title
+	@AfterEach
+	void deleteCreatedRows() {
+		Long[] events = createdEvents.toArray(Long[]::new);
+		Long[] users = createdUsers.toArray(Long[]::new);
+		String registrations = "(SELECT id FROM event_volunteers WHERE event_id = ANY(?) OR volunteer_id = ANY(?))";
+		delete("DELETE FROM points_ledger WHERE event_id = ANY(?) OR user_id = ANY(?)", events, users);
+		delete("DELETE FROM attendance_journal WHERE event_volunteer_id IN " + registrations, events, users);
+		delete("DELETE FROM attendance WHERE event_volunteer_id IN " + registrations, events, users);
+		delete("DELETE FROM feedbacks WHERE event_volunteer_id IN " + registrations, events, users);
+		delete("DELETE FROM event_waitlist WHERE event_volunteer_id IN " + registrations, events, users);
+		delete("DELETE FROM event_recommendations WHERE event_id = ANY(?) OR user_id = ANY(?)", events, users);
+		delete("DELETE FROM event_volunteers WHERE event_id = ANY(?) OR volunteer_id = ANY(?)", events, users);
+		jdbcTemplate.update(con -> {
+			var ps = con.prepareStatement("DELETE FROM notifications WHERE user_id = ANY(?) OR message LIKE ANY(?)");
+			ps.setArray(1, con.createArrayOf("bigint", users));
+			ps.setArray(2, con.createArrayOf("varchar",
+					createdTitles.stream().map(title -> "%" + title + "%").toArray()));
+			return ps;
+		});
+		delete("DELETE FROM events WHERE id = ANY(?)", events);
+		delete("DELETE FROM users WHERE id = ANY(?)", users);
+	}
+
+	private void delete(String sql, Long[]... ids) {
+		jdbcTemplate.update(con -> {
+			var ps = con.prepareStatement(sql);
+			for (int i = 0; i < ids.length; i++) {
+				ps.setArray(i + 1, con.createArrayOf("bigint", ids[i]));
+			}
+			return ps;
+		});
+	}
+
+	protected User createUser(User.Role role) {
+		String tag = UUID.randomUUID().toString().substring(0, 12);
+		User user = userRepository.save(User.builder()
+				.name(role.name().toLowerCase() + "-" + tag)
+				.email(tag + "@test.volunteerhub")
+				.password("x")
+				.role(role)
+				.vmsId("T-" + tag)
+				.verified(true)
+				.documentsVerified(true)
+				.build());
+		createdUsers.add(user.getId());
+		return user;
+	}
+
+	// A published event running all of today, so check-in passes and roll calls are in range
+	protected Event createTodaysEvent(User organizer, int requiredVolunteers) {
+		Event event = new Event();
+		event.setTitle("Test event " + UUID.randomUUID().toString().substring(0, 8));
+		event.setCategory("Cleanup");
+		event.setCity("Pune");
+		event.setDescription("Integration test event");
+		event.setStartDate(LocalDate.now());
+		event.setStartTime(LocalTime.MIN);
+		event.setEndDate(LocalDate.now());
+		event.setEndTime(LocalTime.of(23, 59));
+		event.setRegistrationOpenDateTime(LocalDateTime.now().minusDays(1));
+		event.setRequiredVolunteers(requiredVolunteers);
+		Event created = eventService.createEvent(event, organizer.getId());
+		createdEvents.add(created.getId());
+		createdTitles.add(created.getTitle());
+		return eventService.approveEvent(created.getId());
+	}
+
+	// Registration ids of fresh volunteers who joined the event, in join order, still PENDING
+	protected List<Long> pendingRoster(Event event, int size) {
+		List<Long> volunteerIds = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			volunteerIds.add(createUser(User.Role.VOLUNTEER).getId());
+		}
+		return eventVolunteerService.joinEventBatch(event.getId(), volunteerIds).stream()
+				.map(EventVolunteer::getId)
+				.toList();
+	}
+
+	protected List<Long> approvedRoster(Event event, User organizer, int size) {
+		List<Long> registrationIds = pendingRoster(event, size);
+		eventVolunteerService.bulkDecision(approve(organizer, registrationIds));
+		return registrationIds;
+	}
+
+	protected static BulkDecisionRequest approve(User organizer, List<Long> registrationIds) {
+		BulkDecisionRequest request = new BulkDecisionRequest();
+		request.setOrganizerId(organizer.getId());
+		request.setDecision(BulkDecisionRequest.Decision.APPROVE);
+		request.setRegistrationIds(registrationIds);
+		return request;
+	}
+
+	protected long registrationCount(Long eventId, String status) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_volunteers WHERE event_id = ? AND status = ?",
+				Long.class, eventId, status);
+	}
+
+	protected long attendanceCount(Long eventId, LocalDate date, String status) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance a "
+				+ "JOIN event_volunteers ev ON ev.id = a.event_volunteer_id "
+				+ "WHERE ev.event_id = ? AND a.date = ? AND a.status = ?", Long.class, eventId, date, status);
+	}
+
+	protected int points(Long volunteerId) {
+		return userRepository.findById(volunteerId).orElseThrow().getPoints();
+	}
+}
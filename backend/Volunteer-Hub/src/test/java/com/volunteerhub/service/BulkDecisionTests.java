@@ -0,0 +1,68 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.BulkDecisionResultDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BulkDecisionTests extends AttendanceTestSupport {
+
+	@Test
+	void approvesAFullRoster() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 100);
+		List<Long> registrationIds = pendingRoster(event, 100);
+
+		BulkDecisionResultDTO result = eventVolunteerService.bulkDecision(approve(organizer, registrationIds));
+
+		assertEquals(100, result.getSucceeded());
+		assertEquals(0, result.getFailed());
+		assertEquals(100, registrationCount(event.getId(), "APPROVED"));
+		// Approving keeps the slots the pending registrations already held
+		assertEquals(100, jdbcTemplate.queryForObject("SELECT current_volunteers FROM events WHERE id = ?",
+				Integer.class, event.getId()));
+		assertEquals(100, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications n "
+				+ "JOIN event_volunteers ev ON ev.volunteer_id = n.user_id "
+				+ "WHERE ev.event_id = ? AND n.title = 'Application Approved'", Integer.class, event.getId()));
+	}
+
+	@Test
+	void reportsUnknownAndAlreadyDecidedIdsPerItem() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 5);
+		List<Long> registrationIds = approvedRoster(event, organizer, 2);
+
+		List<Long> retry = new ArrayList<>(registrationIds);
+		retry.add(-1L);
+		BulkDecisionResultDTO result = eventVolunteerService.bulkDecision(approve(organizer, retry));
+
+		assertEquals(3, result.getRequested());
+		assertEquals(0, result.getSucceeded());
+		assertEquals("Registration not found", message(result, -1L));
+		assertEquals("Cannot approve a registration with status APPROVED", message(result, registrationIds.get(0)));
+	}
+
+	@Test
+	void anotherOrganizerCannotDecide() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 5);
+		List<Long> registrationIds = pendingRoster(event, 3);
+
+		BulkDecisionResultDTO result = eventVolunteerService.bulkDecision(
+				approve(createUser(User.Role.ORGANIZER), registrationIds));
+
+		assertEquals(0, result.getSucceeded());
+		assertEquals(0, registrationCount(event.getId(), "APPROVED"));
+	}
+
+	private static String message(BulkDecisionResultDTO result, Long registrationId) {
+		return result.getResults().stream()
+				.filter(item -> item.getRegistrationId().equals(registrationId))
+				.findFirst().orElseThrow().getMessage();
+	}
+}
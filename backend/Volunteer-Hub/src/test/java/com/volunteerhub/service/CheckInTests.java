@@ -0,0 +1,110 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.CheckInScanRequest;
+import com.volunteerhub.dto.CheckInScanResultDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CheckInTests extends AttendanceTestSupport {
+
+	@Autowired
+	private CheckInService checkInService;
+
+	@Test
+	void concurrentScansCheckEveryoneInOnce() throws Exception {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 100);
+		List<Long> registrationIds = approvedRoster(event, organizer, 100);
+
+		List<String> scans = new ArrayList<>();
+		for (Long registrationId : registrationIds) {
+			Long volunteerId = jdbcTemplate.queryForObject(
+					"SELECT volunteer_id FROM event_volunteers WHERE id = ?", Long.class, registrationId);
+			String token = checkInService.issueToken(registrationId, volunteerId).getToken();
+			// Every pass is scanned twice, as when a volunteer tries two gates
+			scans.add(token);
+			scans.add(token);
+		}
+		Collections.shuffle(scans, new Random(20));
+
+		Map<CheckInScanResultDTO.Status, Integer> outcomes = new ConcurrentHashMap<>();
+		ExecutorService gates = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> pending = new ArrayList<>();
+			for (String token : scans) {
+				pending.add(gates.submit(() -> outcomes.merge(
+						checkInService.scan(scan(token, organizer)).getStatus(), 1, Integer::sum)));
+			}
+			for (Future<?> future : pending) {
+				future.get();
+			}
+		} finally {
+			gates.shutdown();
+		}
+
+		assertEquals(100, outcomes.get(CheckInScanResultDTO.Status.CHECKED_IN));
+		assertEquals(100, outcomes.get(CheckInScanResultDTO.Status.ALREADY_CHECKED_IN));
+		assertEquals(100, awaitPresent(event.getId(), 100));
+		assertEquals(100L * EventVolunteerService.POINTS_PER_ATTENDED_DAY, jdbcTemplate.queryForObject(
+				"SELECT SUM(points) FROM points_ledger WHERE event_id = ?", Long.class, event.getId()));
+	}
+
+	@Test
+	void writesDropRegistrationsNoLongerApproved() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 2);
+		List<Long> registrationIds = approvedRoster(event, organizer, 2);
+		Map<Long, Long> volunteers = new LinkedHashMap<>();
+		for (Long registrationId : registrationIds) {
+			volunteers.put(registrationId, jdbcTemplate.queryForObject(
+					"SELECT volunteer_id FROM event_volunteers WHERE id = ?", Long.class, registrationId));
+		}
+		jdbcTemplate.update("UPDATE event_volunteers SET status = 'REJECTED' WHERE id = ?", registrationIds.get(0));
+
+		EventVolunteerService.CheckInWrite write = eventVolunteerService.recordCheckIns(LocalDate.now(), volunteers);
+
+		assertEquals(1, write.created());
+		assertEquals(List.of(registrationIds.get(0)), write.dropped());
+		assertEquals(1, attendanceCount(event.getId(), LocalDate.now(), "PRESENT"));
+	}
+
+	private static CheckInScanRequest scan(String token, User organizer) {
+		CheckInScanRequest request = new CheckInScanRequest();
+		request.setToken(token);
+		request.setOrganizerId(organizer.getId());
+		request.setDeviceId("gate-test");
+		return request;
+	}
+
+	// The scheduled flush may be writing part of the queue at the same time, so wait for it rather than racing it
+	private long awaitPresent(Long eventId, long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		long present;
+		do {
+			checkInService.flush();
+			present = attendanceCount(eventId, LocalDate.now(), "PRESENT");
+			if (present >= expected) {
+				break;
+			}
+			Thread.sleep(50);
+		} while (System.nanoTime() < deadline);
+		return present;
+	}
+}
@@ -0,0 +1,71 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointsLedgerTests extends AttendanceTestSupport {
+
+	@Test
+	void concurrentMarksOfOneDayPayOnce() throws Exception {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 2);
+		Long registrationId = approvedRoster(event, organizer, 1).get(0);
+		Long volunteerId = volunteerOf(registrationId);
+		LocalDate today = LocalDate.now();
+
+		ExecutorService organizers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> marks = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				marks.add(organizers.submit(() -> eventVolunteerService.markAttendance(
+						registrationId, organizer.getId(), today, true)));
+			}
+			for (Future<?> mark : marks) {
+				mark.get();
+			}
+		} finally {
+			organizers.shutdown();
+		}
+
+		assertEquals(EventVolunteerService.POINTS_PER_ATTENDED_DAY, points(volunteerId));
+		assertEquals(1, ledgerRows(registrationId));
+	}
+
+	@Test
+	void reMarkingADayPresentDoesNotPayAgain() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 2);
+		Long registrationId = approvedRoster(event, organizer, 1).get(0);
+		Long volunteerId = volunteerOf(registrationId);
+		LocalDate today = LocalDate.now();
+
+		eventVolunteerService.markAttendance(registrationId, organizer.getId(), today, true);
+		eventVolunteerService.markAttendance(registrationId, organizer.getId(), today, false);
+		eventVolunteerService.markAttendance(registrationId, organizer.getId(), today, true);
+		eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today, Map.of(registrationId, true));
+
+		assertEquals(EventVolunteerService.POINTS_PER_ATTENDED_DAY, points(volunteerId));
+		assertEquals(1, ledgerRows(registrationId));
+	}
+
+	private Long volunteerOf(Long registrationId) {
+		return jdbcTemplate.queryForObject("SELECT volunteer_id FROM event_volunteers WHERE id = ?", Long.class,
+				registrationId);
+	}
+
+	private long ledgerRows(Long registrationId) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM points_ledger WHERE event_volunteer_id = ?",
+				Long.class, registrationId);
+	}
+}
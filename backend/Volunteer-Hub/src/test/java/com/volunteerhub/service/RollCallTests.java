@@ -0,0 +1,66 @@
+package com.volunteerhub.service;
+
+import com.volunteerhub.dto.RollCallResultDTO;
+import com.volunteerhub.model.Event;
+import com.volunteerhub.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RollCallTests extends AttendanceTestSupport {
+
+	@Test
+	void recordsAWholeRosterAndOnlyPaysForNewPresentDays() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 100);
+		List<Long> registrationIds = approvedRoster(event, organizer, 100);
+		LocalDate today = LocalDate.now();
+
+		Map<Long, Boolean> roster = new LinkedHashMap<>();
+		for (int i = 0; i < registrationIds.size(); i++) {
+			roster.put(registrationIds.get(i), i % 10 != 0);
+		}
+		roster.put(-1L, true);
+
+		RollCallResultDTO first = eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today, roster);
+
+		assertEquals(90, first.getPresent());
+		assertEquals(10, first.getAbsent());
+		assertEquals(100, first.getChanged());
+		assertEquals(90 * EventVolunteerService.POINTS_PER_ATTENDED_DAY, first.getPointsAwarded());
+		assertEquals(1, first.getSkipped().size());
+		assertEquals(90, attendanceCount(event.getId(), today, "PRESENT"));
+
+		RollCallResultDTO repeat = eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today, roster);
+		assertEquals(0, repeat.getChanged());
+		assertEquals(0, repeat.getPointsAwarded());
+
+		roster.replaceAll((id, present) -> true);
+		RollCallResultDTO allPresent = eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today,
+				roster);
+		assertEquals(10, allPresent.getChanged());
+		assertEquals(10 * EventVolunteerService.POINTS_PER_ATTENDED_DAY, allPresent.getPointsAwarded());
+		assertEquals(100, attendanceCount(event.getId(), today, "PRESENT"));
+	}
+
+	@Test
+	void countersFollowFlipsInBothDirections() {
+		User organizer = createUser(User.Role.ORGANIZER);
+		Event event = createTodaysEvent(organizer, 2);
+		Long registrationId = approvedRoster(event, organizer, 1).get(0);
+		LocalDate today = LocalDate.now();
+
+		eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today, Map.of(registrationId, true));
+		eventVolunteerService.recordRollCall(event.getId(), organizer.getId(), today, Map.of(registrationId, false));
+
+		Map<String, Object> counters = jdbcTemplate.queryForMap(
+				"SELECT present_days, total_days FROM event_volunteers WHERE id = ?", registrationId);
+		assertEquals(0, ((Number) counters.get("present_days")).intValue());
+		assertEquals(1, ((Number) counters.get("total_days")).intValue());
+	}
+}
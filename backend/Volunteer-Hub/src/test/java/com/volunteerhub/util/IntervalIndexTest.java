@@ -0,0 +1,104 @@
+package com.volunteerhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalIndexTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	@Test
+	void overlappingMatchesBruteForceAfterPutsReplacesAndRemoves() {
+		Random random = new Random(7);
+		IntervalIndex<String> index = new IntervalIndex<>();
+		Map<Long, IntervalIndex.Interval<String>> expected = new HashMap<>();
+		for (int i = 0; i < 5000; i++) {
+			long id = random.nextInt(800);
+			if (random.nextInt(5) == 0) {
+				index.remove(id);
+				expected.remove(id);
+				continue;
+			}
+			LocalDateTime start = BASE.plusHours(random.nextInt(24 * 365));
+			// Mostly short events plus the odd multi-week one
+			LocalDateTime end = start.plusHours(random.nextInt(10) == 0 ? random.nextInt(24 * 40) : random.nextInt(8));
+			String value = random.nextBoolean() ? "A" : "B";
+			index.put(id, start, end, value);
+			expected.put(id, new IntervalIndex.Interval<>(id, start, end, value));
+		}
+		assertEquals(expected.size(), index.size());
+
+		for (int q = 0; q < 300; q++) {
+			LocalDateTime from = BASE.plusHours(random.nextInt(24 * 365));
+			LocalDateTime to = from.plusHours(random.nextInt(24 * 10));
+			List<IntervalIndex.Interval<String>> brute = expected.values().stream()
+					.filter(interval -> !interval.start().isAfter(to) && !interval.end().isBefore(from))
+					.sorted(Comparator.comparing(IntervalIndex.Interval<String>::start)
+							.thenComparing(IntervalIndex.Interval::id))
+					.toList();
+			assertEquals(brute, index.overlapping(from, to, Integer.MAX_VALUE));
+			assertEquals(brute.subList(0, Math.min(3, brute.size())), index.overlapping(from, to, 3));
+		}
+	}
+
+	@Test
+	void cursorAndFilterPageThroughEveryMatchOnce() {
+		IntervalIndex<String> index = new IntervalIndex<>();
+		for (long id = 1; id <= 50; id++) {
+			// Pairs share a start so the id breaks the tie
+			index.put(id, BASE.plusHours(id / 2), BASE.plusHours(id / 2 + 1), id % 3 == 0 ? "skip" : "keep");
+		}
+		index.put(99L, BASE.minusDays(30), BASE.plusDays(30), "keep");
+
+		List<Long> seen = new ArrayList<>();
+		LocalDateTime afterStart = null;
+		Long afterId = null;
+		while (true) {
+			List<IntervalIndex.Interval<String>> page = index.overlapping(BASE, BASE.plusHours(25), afterStart, afterId,
+					"keep"::equals, 7);
+			if (page.isEmpty()) {
+				break;
+			}
+			page.forEach(interval -> seen.add(interval.id()));
+			IntervalIndex.Interval<String> last = page.get(page.size() - 1);
+			afterStart = last.start();
+			afterId = last.id();
+		}
+
+		List<Long> expected = new ArrayList<>(List.of(99L));
+		for (long id = 1; id <= 50; id++) {
+			if (id % 3 != 0) {
+				expected.add(id);
+			}
+		}
+		assertEquals(expected, seen);
+	}
+
+	@Test
+	void putReplacesAndEndBeforeStartCollapsesToAPoint() {
+		IntervalIndex<String> index = new IntervalIndex<>();
+		index.put(1L, BASE, BASE.plusHours(2), "old");
+		index.put(1L, BASE.plusDays(5), BASE.plusDays(4), "new");
+
+		assertEquals(1, index.size());
+		assertTrue(index.overlapping(BASE, BASE.plusHours(3), 10).isEmpty());
+		IntervalIndex.Interval<String> moved = index.get(1L);
+		assertEquals(BASE.plusDays(5), moved.end());
+		assertEquals("new", index.overlapping(BASE.plusDays(5), BASE.plusDays(5), 10).get(0).value());
+
+		index.remove(1L);
+		assertNull(index.get(1L));
+		assertEquals(0, index.size());
+	}
+}
@@ -0,0 +1,91 @@
+package com.volunteerhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RankTreeTest {
+
+	@Test
+	void topOrdersByScoreThenLowerIdFirst() {
+		RankTree tree = new RankTree();
+		tree.insert(100, 3);
+		tree.insert(250, 9);
+		tree.insert(100, 1);
+		tree.insert(40, 2);
+
+		List<long[]> top = tree.top(10);
+		assertEquals(4, top.size());
+		assertArrayEquals(new long[] { 250, 9 }, top.get(0));
+		assertArrayEquals(new long[] { 100, 1 }, top.get(1));
+		assertArrayEquals(new long[] { 100, 3 }, top.get(2));
+		assertArrayEquals(new long[] { 40, 2 }, top.get(3));
+		assertEquals(2, tree.top(2).size());
+	}
+
+	@Test
+	void countAboveGivesCompetitionRanks() {
+		RankTree tree = new RankTree();
+		tree.insert(300, 1);
+		tree.insert(200, 2);
+		tree.insert(200, 3);
+		tree.insert(100, 4);
+
+		assertEquals(0, tree.countAbove(300));
+		assertEquals(1, tree.countAbove(200));
+		assertEquals(3, tree.countAbove(100));
+		assertEquals(4, tree.countAbove(0));
+	}
+
+	@Test
+	void matchesASortedListUnderRandomUpdates() {
+		Random random = new Random(23);
+		RankTree tree = new RankTree();
+		Map<Long, Long> scores = new HashMap<>();
+		for (int i = 0; i < 5000; i++) {
+			long id = random.nextInt(400);
+			Long old = scores.get(id);
+			if (old != null) {
+				tree.remove(old, id);
+				scores.remove(id);
+			}
+			if (old == null || random.nextInt(4) > 0) {
+				long score = (old == null ? 0 : old) + random.nextInt(5) * 50L;
+				tree.insert(score, id);
+				scores.put(id, score);
+			}
+		}
+
+		List<long[]> expected = new ArrayList<>();
+		scores.forEach((id, score) -> expected.add(new long[] { score, id }));
+		expected.sort(Comparator.<long[]>comparingLong(e -> -e[0]).thenComparingLong(e -> e[1]));
+
+		assertEquals(expected.size(), tree.size());
+		List<long[]> top = tree.top(expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), top.get(i));
+			long score = expected.get(i)[0];
+			long above = expected.stream().filter(e -> e[0] > score).count();
+			assertEquals(above, tree.countAbove(score));
+		}
+	}
+
+	@Test
+	void removingAnAbsentEntryIsANoOp() {
+		RankTree tree = new RankTree();
+		tree.insert(10, 1);
+		tree.remove(10, 2);
+		tree.remove(11, 1);
+
+		assertEquals(1, tree.size());
+		assertEquals(1, tree.countAbove(9));
+	}
+}
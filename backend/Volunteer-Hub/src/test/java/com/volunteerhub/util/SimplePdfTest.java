@@ -0,0 +1,77 @@
+package com.volunteerhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimplePdfTest {
+
+	@Test
+	void xrefOffsetsPointAtTheirObjects() {
+		String pdf = render(new SimplePdf()
+				.centered("Certificate of Participation", 420, 36, true, 600)
+				.text("Awarded to Ana", 100, 300, 18, false)
+				.rectangle(20, 20, 802, 555, 3));
+
+		assertTrue(pdf.startsWith("%PDF-1.4\n"));
+		assertTrue(pdf.endsWith("%%EOF\n"));
+
+		Matcher startxref = Pattern.compile("startxref\n(\\d+)\n").matcher(pdf);
+		assertTrue(startxref.find());
+		int xref = Integer.parseInt(startxref.group(1));
+		assertTrue(pdf.startsWith("xref\n0 7\n", xref));
+
+		Matcher entries = Pattern.compile("(\\d{10}) 00000 n \n").matcher(pdf.substring(xref));
+		int object = 1;
+		while (entries.find()) {
+			int offset = Integer.parseInt(entries.group(1));
+			assertTrue(pdf.startsWith(object + " 0 obj\n", offset), "object " + object + " not at " + offset);
+			object++;
+		}
+		assertEquals(7, object);
+	}
+
+	@Test
+	void streamLengthMatchesItsContent() {
+		String pdf = render(new SimplePdf().text("Hello", 10, 10, 12, false));
+
+		Matcher length = Pattern.compile("<< /Length (\\d+) >>\nstream\n").matcher(pdf);
+		assertTrue(length.find());
+		int start = length.end();
+		int end = pdf.indexOf("\nendstream", start);
+		assertEquals(Integer.parseInt(length.group(1)), end - start);
+	}
+
+	@Test
+	void textIsEscapedAndNonLatinCharactersReplaced() {
+		String pdf = render(new SimplePdf().text("(a\\b) café 中", 10, 10, 12, false));
+
+		assertTrue(pdf.contains("(\\(a\\\\b\\) café ?) Tj"));
+	}
+
+	@Test
+	void centeredShrinksLongLinesToFitAndCentresThem() {
+		String name = "Maximiliana Alexandra Konstantinopoulou-Vanderbilt";
+		float natural = SimplePdf.width(name, 40, true);
+		assertTrue(natural > 500);
+
+		String pdf = render(new SimplePdf().centered(name, 300, 40, true, 500));
+		Matcher placed = Pattern.compile("/F2 ([\\d.]+) Tf ([\\d.]+) 300 Td").matcher(pdf);
+		assertTrue(placed.find());
+		float size = Float.parseFloat(placed.group(1));
+		float x = Float.parseFloat(placed.group(2));
+
+		assertTrue(size < 40);
+		assertEquals(500, SimplePdf.width(name, size, true), 1);
+		assertEquals((SimplePdf.PAGE_WIDTH - 500) / 2, x, 0.01);
+	}
+
+	private static String render(SimplePdf pdf) {
+		return new String(pdf.toBytes(), StandardCharsets.ISO_8859_1);
+	}
+}
@@ -0,0 +1,73 @@
+package com.volunteerhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+	private static final long START = 1_000_000L;
+
+	@Test
+	void everyTimerFiresOnceNoEarlierThanDueAndInDueOrder() {
+		Random random = new Random(11);
+		TimingWheel<Long> wheel = new TimingWheel<>(10, 8, START);
+		int timers = 2000;
+		for (int i = 0; i < timers; i++) {
+			// Spans the current tick, the bottom ring and several overflow levels
+			long dueAt = START + random.nextInt(random.nextBoolean() ? 100 : 200_000);
+			wheel.add(dueAt, dueAt);
+		}
+		assertEquals(timers, wheel.size());
+
+		List<Long> fired = new ArrayList<>();
+		for (long now = START; now <= START + 200_000; now += 1 + random.nextInt(700)) {
+			List<Long> due = wheel.advance(now);
+			for (Long dueAt : due) {
+				assertTrue(dueAt <= now, "fired early: due " + dueAt + " at " + now);
+			}
+			fired.addAll(due);
+		}
+		fired.addAll(wheel.advance(START + 200_000));
+
+		assertEquals(timers, fired.size());
+		assertEquals(0, wheel.size());
+		List<Long> sorted = new ArrayList<>(fired);
+		sorted.sort(null);
+		assertEquals(sorted, fired);
+	}
+
+	@Test
+	void timerInsideTheCurrentTickWaitsUntilDue() {
+		TimingWheel<String> wheel = new TimingWheel<>(1000, 64, START);
+		wheel.add(START + 400, "soon");
+
+		assertTrue(wheel.advance(START + 399).isEmpty());
+		assertEquals(List.of("soon"), wheel.advance(START + 400));
+	}
+
+	@Test
+	void overdueTimerFiresOnTheNextAdvance() {
+		TimingWheel<String> wheel = new TimingWheel<>(1000, 64, START);
+		wheel.advance(START + 5000);
+		wheel.add(START, "late");
+
+		assertEquals(List.of("late"), wheel.advance(START + 5000));
+	}
+
+	@Test
+	void clearDropsPendingTimers() {
+		TimingWheel<String> wheel = new TimingWheel<>(1000, 64, START);
+		wheel.add(START + 10_000, "a");
+		wheel.add(START + 10_000_000, "b");
+		wheel.clear(START);
+
+		assertEquals(0, wheel.size());
+		assertTrue(wheel.advance(START + 20_000_000).isEmpty());
+	}
+}